@@ -0,0 +1,73 @@
+package benchmark;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import domain.ContractRequest;
+import domain.Location;
+import domain.Price;
+import domain.Property;
+import domain.User;
+import domain.enums.DealType;
+import domain.enums.PropertyStatus;
+import domain.enums.PropertyType;
+import domain.enums.RequestStatus;
+import domain.enums.Role;
+import repository.ContractRequestRepository;
+import repository.PropertyRepository;
+import repository.UserRepository;
+
+/**
+ * 벤치마크용 테스트 데이터 생성/정리
+ * 만든 매물은 기억해 두었다가 cleanup()에서 삭제 처리한다. (사용자, 계약 요청은 남는다)
+ */
+class BenchmarkFixtures {
+	static final List<String> CITIES = List.of("서울특별시", "경기도", "부산광역시");
+	static final List<String> DISTRICTS = List.of("강남구", "서초구", "수원시", "해운대구");
+
+	private final UserRepository userRepository;
+	private final PropertyRepository propertyRepository;
+	private final ContractRequestRepository requestRepository;
+	private final Queue<Long> createdPropertyIds = new ConcurrentLinkedQueue<>();
+	private final long suffix = System.currentTimeMillis();
+
+	BenchmarkFixtures(UserRepository userRepository, PropertyRepository propertyRepository,
+		ContractRequestRepository requestRepository) {
+		this.userRepository = userRepository;
+		this.propertyRepository = propertyRepository;
+		this.requestRepository = requestRepository;
+	}
+
+	User createUser(String name, Role role) {
+		return userRepository.save(new User(null, "bench-" + name + "-" + suffix + "@test", role));
+	}
+
+	// 검색/요청 대상이 되는 거래 가능 매물
+	Property createProperty(User lessor, int seed) {
+		Property property = propertyRepository.save(new Property(null, lessor.getId(),
+			new Location(CITIES.get(seed % CITIES.size()), DISTRICTS.get(seed % DISTRICTS.size())),
+			new Price(10_000_000L * (1 + seed % 10), 100_000L * (seed % 8)),
+			PropertyType.values()[seed % PropertyType.values().length],
+			DealType.values()[seed % DealType.values().length]));
+		createdPropertyIds.add(property.getId());
+		return property;
+	}
+
+	// 계약 완료 직전 상태(매물 IN_CONTRACT, 요청 APPROVED)를 만든다.
+	ContractRequest prepareApprovedRequest(User lessor, User lessee, int seed) {
+		Property property = createProperty(lessor, seed);
+		property.setStatus(PropertyStatus.IN_CONTRACT);
+		propertyRepository.save(property);
+
+		ContractRequest request = requestRepository.save(new ContractRequest(lessee.getId(), property.getId()));
+		request.setStatus(RequestStatus.APPROVED);
+		return requestRepository.save(request);
+	}
+
+	void cleanup() {
+		Long propertyId;
+		while ((propertyId = createdPropertyIds.poll()) != null)
+			propertyRepository.deleteById(propertyId);
+	}
+}
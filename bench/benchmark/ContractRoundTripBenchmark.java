@@ -0,0 +1,115 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import config.ConnectionPool;
+import config.DBConnectionManager;
+import config.MigrationRunner;
+import domain.Contract;
+import domain.ContractRequest;
+import domain.User;
+import domain.enums.Role;
+import repository.ContractRepository;
+import repository.ContractRequestRepository;
+import repository.PropertyRepository;
+import repository.UserRepository;
+import service.ContractService;
+import validator.ContractValidator;
+
+/**
+ * completeContract 한 번에 DB 왕복이 몇 번 일어나는지 측정
+ * - 커넥션 획득: 풀에서 커넥션을 빌린 횟수
+ * - SQL 실행: prepareStatement 호출 수 (Repository는 준비한 문장을 한 번씩만 실행한다)
+ * 테스트용 사용자/매물/계약을 만들고 매물은 끝난 뒤 삭제 처리하므로 개발용 DB에서 실행한다.
+ *
+ * 실행: java -cp "bin:bench-bin:resources:lib/*" benchmark.ContractRoundTripBenchmark [반복 횟수]
+ */
+public class ContractRoundTripBenchmark {
+	private static final int DEFAULT_ITERATIONS = 100;
+
+	private final UserRepository userRepository = new UserRepository();
+	private final PropertyRepository propertyRepository = new PropertyRepository();
+	private final ContractRequestRepository requestRepository = new ContractRequestRepository();
+	private final ContractRepository contractRepository = new ContractRepository();
+	private final ContractService contractService = new ContractService(contractRepository, requestRepository,
+		propertyRepository, new ContractValidator());
+	private final BenchmarkFixtures fixtures = new BenchmarkFixtures(userRepository, propertyRepository,
+		requestRepository);
+
+	public static void main(String[] args) {
+		int iterations = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ITERATIONS;
+		try {
+			new MigrationRunner().migrate();
+			new ContractRoundTripBenchmark().run(iterations);
+		} finally {
+			DBConnectionManager.shutdown();
+		}
+	}
+
+	private void run(int iterations) {
+		User lessor = fixtures.createUser("lessor", Role.LESSOR);
+		User lessee = fixtures.createUser("lessee", Role.LESSEE);
+
+		List<Contract> contracts = new ArrayList<>();
+		Counter complete = new Counter();
+		try {
+			for (int i = 0; i < iterations; i++) {
+				ContractRequest request = fixtures.prepareApprovedRequest(lessor, lessee, i);
+				complete.start();
+				contracts.add(contractService.completeContract(request.getId()));
+				complete.stop();
+			}
+
+			// 이미 있는 계약을 다시 저장 (업서트의 UPDATE 경로)
+			Counter save = new Counter();
+			for (Contract contract : contracts) {
+				save.start();
+				contractRepository.save(contract);
+				save.stop();
+			}
+
+			System.out.println("=== completeContract 왕복 측정 (" + iterations + "회) ===");
+			complete.print("completeContract");
+			save.print("ContractRepository.save");
+			System.out.println(DBConnectionManager.getPool());
+		} finally {
+			fixtures.cleanup();
+		}
+	}
+
+	// 측정 구간 동안 늘어난 커넥션 획득/SQL 실행 수를 누적
+	private static class Counter {
+		private long operations;
+		private long acquisitions;
+		private long statements;
+		private long elapsedNanos;
+
+		private long startAcquisitions;
+		private long startStatements;
+		private long startNanos;
+
+		private void start() {
+			ConnectionPool pool = DBConnectionManager.getPool();
+			startAcquisitions = pool.getAcquireCount();
+			startStatements = pool.getStatementCacheHits() + pool.getStatementCacheMisses();
+			startNanos = System.nanoTime();
+		}
+
+		private void stop() {
+			elapsedNanos += System.nanoTime() - startNanos;
+			ConnectionPool pool = DBConnectionManager.getPool();
+			acquisitions += pool.getAcquireCount() - startAcquisitions;
+			statements += pool.getStatementCacheHits() + pool.getStatementCacheMisses() - startStatements;
+			operations++;
+		}
+
+		private void print(String name) {
+			if (operations == 0)
+				return;
+			System.out.printf("%-25s 커넥션 획득 %.2f회/op, SQL 실행 %.2f회/op, 평균 %.3fms%n",
+				name, acquisitions / (double)operations, statements / (double)operations,
+				elapsedNanos / (double)operations / 1_000_000);
+		}
+	}
+}
@@ -0,0 +1,210 @@
+package benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import domain.enums.DealType;
+import domain.enums.PropertyType;
+import dto.PropertyFilter;
+import repository.PropertyFilterSql;
+import repository.RowMappers;
+import view.ui.SessionOutput;
+import view.ui.UIHelper;
+import view.ui.UIHelperAccess;
+
+/**
+ * 목록 조회/화면 출력에서 행마다 실행되는 코드의 속도와 할당량 측정 (DB 없이 실행)
+ * - SQL 생성: PropertyFilterSql.build (지역/유형/가격 조건), 형태별 템플릿 조회 (findByFilter 페이지 조회 경로)
+ * - 행 변환: RowMappers.mapProperty / mapContractRequest (스텁 ResultSet 사용)
+ * - 화면: UIHelper.getDisplayLength / wrapText / printBox (출력은 버린다)
+ * - PropertyFilter.Builder
+ *
+ * 스텁 ResultSet은 동적 프록시라 호출마다 인자 배열을 할당하므로, 같은 컬럼만 읽는 resultSet.stub 결과를 빼고 비교한다.
+ * save=파일로 B/op를 저장해 두고 compare=파일로 비교하면 할당량이 10%(+16B) 넘게 늘어난 항목이 있을 때 1로 종료한다.
+ *
+ * 실행: java -cp bin:bench-bin benchmark.HotPathBenchmark [filter=정규식] [warmup=3] [iterations=5] [time=1000(ms)]
+ *       [save=파일] [compare=파일]
+ */
+public class HotPathBenchmark {
+	private static final double ALLOWED_GROWTH = 1.10;
+	private static final double ALLOWED_GROWTH_BYTES = 16;
+
+	public static void main(String[] args) throws Exception {
+		Map<String, String> options = new LinkedHashMap<>();
+		for (String arg : args) {
+			int eq = arg.indexOf('=');
+			if (eq <= 0)
+				throw new IllegalArgumentException("key=value 형식이 아닙니다: " + arg);
+			options.put(arg.substring(0, eq), arg.substring(eq + 1));
+		}
+		Pattern filter = Pattern.compile(options.getOrDefault("filter", ".*"));
+		MicroBenchmark bench = new MicroBenchmark(
+			Integer.parseInt(options.getOrDefault("warmup", "3")),
+			Integer.parseInt(options.getOrDefault("iterations", "5")),
+			Long.parseLong(options.getOrDefault("time", "1000")));
+
+		// printBox의 출력은 버린다. (문자열 인코딩 비용은 그대로 측정된다)
+		PrintStream console = System.out;
+		SessionOutput.install();
+		SessionOutput.bind(new PrintStream(OutputStream.nullOutputStream(), false, StandardCharsets.UTF_8));
+
+		List<MicroBenchmark.Result> results = new ArrayList<>();
+		try {
+			for (Map.Entry<String, MicroBenchmark.Body> entry : benchmarks().entrySet()) {
+				if (!filter.matcher(entry.getKey()).find())
+					continue;
+				MicroBenchmark.Result result = bench.run(entry.getKey(), entry.getValue());
+				results.add(result);
+				console.println(result);
+			}
+		} finally {
+			SessionOutput.unbind();
+		}
+
+		if (options.containsKey("save"))
+			save(Path.of(options.get("save")), results, console);
+		if (options.containsKey("compare") && !compare(Path.of(options.get("compare")), results, console))
+			System.exit(1);
+	}
+
+	private static Map<String, MicroBenchmark.Body> benchmarks() {
+		Map<String, MicroBenchmark.Body> benchmarks = new LinkedHashMap<>();
+
+		// ---------------- SQL 생성 ----------------
+		PropertyFilter empty = PropertyFilter.builder().build();
+		PropertyFilter location = PropertyFilter.builder().city("서울특별시").district("강남구").build();
+		PropertyFilter price = PropertyFilter.builder().minPrice(500_000L).maxPrice(50_000_000L).build();
+		PropertyFilter full = PropertyFilter.builder()
+			.city("서울특별시").district("강남구")
+			.propertyTypes(List.of(PropertyType.APARTMENT, PropertyType.ONE_ROOM))
+			.dealTypes(List.of(DealType.MONTHLY, DealType.JEONSE))
+			.minPrice(500_000L).maxPrice(50_000_000L)
+			.build();
+		benchmarks.put("filterSql.empty", () -> buildSql(empty));
+		benchmarks.put("filterSql.location", () -> buildSql(location));
+		benchmarks.put("filterSql.price", () -> buildSql(price));
+		benchmarks.put("filterSql.full", () -> buildSql(full));
+		benchmarks.put("filterSql.template", () -> PropertyFilterSql.compilePage(full, true).getSql());
+
+		// ---------------- 행 변환 ----------------
+		ResultSet propertyRow = stubResultSet(Map.of(
+			"id", 42L, "owner_id", 7L, "city", "서울특별시", "district", "강남구",
+			"deposit", 10_000_000L, "monthly_rent", 500_000L, "property_type", "ONE_ROOM",
+			"deal_type", "MONTHLY", "status", "AVAILABLE", "version", 3L));
+		ResultSet requestRow = stubResultSet(Map.of(
+			"id", 11L, "requester_id", 8L, "property_id", 42L, "status", "REQUESTED",
+			"created_at", Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 12, 0)), "version", 1L));
+		benchmarks.put("resultSet.stub", () -> readPropertyColumns(propertyRow));
+		benchmarks.put("rowMapper.property", () -> RowMappers.mapProperty(propertyRow));
+		benchmarks.put("rowMapper.contractRequest", () -> RowMappers.mapContractRequest(requestRow));
+
+		// ---------------- 화면 ----------------
+		String ascii = "Search results: 20 properties found in the selected region";
+		String korean = "📍 서울특별시 강남구 | 🏠 원룸 | 💰 월세 1,000만원/50만원 | 상태: 거래 가능";
+		String paragraph = String.join(" ", Collections.nCopies(8, korean));
+		String menu = "1. 매물 검색\n2. 내 계약 요청 목록\n3. 완료된 계약 목록\n\n예시: 1,2 를 입력하세요\n0. 로그아웃";
+		benchmarks.put("ui.displayLength.ascii", () -> UIHelperAccess.getDisplayLength(ascii));
+		benchmarks.put("ui.displayLength.korean", () -> UIHelperAccess.getDisplayLength(korean));
+		benchmarks.put("ui.wrapText", () -> UIHelperAccess.wrapText(paragraph, 63));
+		benchmarks.put("ui.printBox", () -> {
+			UIHelper.printBox("lessee@test.com", "임차인 메뉴", menu);
+			return null;
+		});
+
+		// ---------------- 필터 생성 ----------------
+		benchmarks.put("filterBuilder.full", () -> PropertyFilter.builder()
+			.city("서울특별시").district("강남구")
+			.propertyTypes(List.of(PropertyType.APARTMENT))
+			.dealTypes(List.of(DealType.MONTHLY))
+			.minPrice(500_000L).maxPrice(50_000_000L)
+			.build());
+		return benchmarks;
+	}
+
+	private static String buildSql(PropertyFilter filter) {
+		List<Object> params = new ArrayList<>();
+		return PropertyFilterSql.build(filter, params).toString();
+	}
+
+	// mapProperty가 읽는 컬럼을 같은 방식으로 읽기만 한다. (스텁 자체의 비용)
+	private static Object readPropertyColumns(ResultSet rs) throws SQLException {
+		long sum = rs.getLong("id") + rs.getLong("owner_id") + rs.getLong("deposit") + rs.getLong("monthly_rent")
+			+ rs.getLong("version");
+		return rs.getString("city").length() + rs.getString("district").length()
+			+ rs.getString("property_type").length() + rs.getString("deal_type").length()
+			+ rs.getString("status").length() + sum;
+	}
+
+	// 컬럼 이름으로 값을 돌려주는 한 행짜리 ResultSet (getString/getLong/getTimestamp/getObject만 지원)
+	private static ResultSet stubResultSet(Map<String, Object> row) {
+		return (ResultSet)Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+			(proxy, method, methodArgs) -> {
+				switch (method.getName()) {
+					case "getString":
+					case "getTimestamp":
+					case "getObject":
+						return column(row, methodArgs[0]);
+					case "getLong":
+						Object value = column(row, methodArgs[0]);
+						return value == null ? 0L : value;
+					case "wasNull":
+						return false;
+					default:
+						throw new UnsupportedOperationException(method.getName());
+				}
+			});
+	}
+
+	private static Object column(Map<String, Object> row, Object label) throws SQLException {
+		if (!row.containsKey(label))
+			throw new SQLException("스텁에 없는 컬럼입니다: " + label);
+		return row.get(label);
+	}
+
+	// ---------------- 할당량 기준선 ----------------
+	private static void save(Path path, List<MicroBenchmark.Result> results, PrintStream console) throws IOException {
+		List<String> lines = new ArrayList<>();
+		for (MicroBenchmark.Result result : results)
+			lines.add(result.getName() + "\t" + result.getBytesPerOp());
+		Files.write(path, lines, StandardCharsets.UTF_8);
+		console.println("기준선 저장: " + path);
+	}
+
+	private static boolean compare(Path path, List<MicroBenchmark.Result> results,
+		PrintStream console) throws IOException {
+		Map<String, Double> baseline = new LinkedHashMap<>();
+		for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+			String[] parts = line.split("\t");
+			if (parts.length == 2)
+				baseline.put(parts[0], Double.parseDouble(parts[1]));
+		}
+
+		boolean ok = true;
+		for (MicroBenchmark.Result result : results) {
+			Double before = baseline.get(result.getName());
+			if (before == null)
+				continue;
+			double after = result.getBytesPerOp();
+			boolean regressed = after > before * ALLOWED_GROWTH + ALLOWED_GROWTH_BYTES;
+			console.printf("%-40s %10.1f -> %10.1f B/op %s%n", result.getName(), before, after,
+				regressed ? "할당량 증가" : "");
+			ok &= !regressed;
+		}
+		return ok;
+	}
+}
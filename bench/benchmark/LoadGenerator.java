@@ -0,0 +1,464 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import config.DBConnectionManager;
+import config.MigrationRunner;
+import config.ServiceExecutors;
+import domain.ContractRequest;
+import domain.User;
+import domain.enums.DealType;
+import domain.enums.PropertyType;
+import domain.enums.Role;
+import dto.PropertyFilter;
+import exception.CustomException;
+import metrics.LatencyHistogram;
+import repository.ContractRepository;
+import repository.ContractRequestRepository;
+import repository.PropertyRepository;
+import repository.UserRepository;
+import service.ContractRequestService;
+import service.ContractService;
+import service.IContractRequestService;
+import service.IContractService;
+import service.IPropertyService;
+import service.PropertyService;
+import validator.ContractValidator;
+import validator.PropertyValidator;
+
+/**
+ * 임차인/임대인 작업을 동시에 실행하여 처리량, 지연 시간 백분위수, 오류율을 작업별로 측정
+ * - search  : 임차인 매물 검색 (findPropertiesByFilter, 한 페이지)
+ * - request : 임차인 계약 요청 생성
+ * - approve : 임대인이 대기 중인 요청을 승인
+ * - complete: 같은 승인된 요청에 completeContract를 동시에 여러 번 호출 (한 번만 성공해야 한다)
+ *
+ * 부하 방식
+ * - closed: threads개의 작업자가 쉬지 않고 작업을 반복 (응답이 늦어지면 요청도 줄어든다)
+ * - open  : 초당 rate개의 작업을 정해진 시각에 시작 (지연 시간은 예정 시각부터 재므로 밀린 대기도 포함된다)
+ *
+ * 테스트용 사용자/매물/계약을 만들고 매물은 끝난 뒤 삭제 처리하므로 개발용 DB에서 실행한다.
+ *
+ * 실행: java -cp "bin:bench-bin:resources:lib/*" benchmark.LoadGenerator [mix=mixed] [mode=closed] [threads=16] [rate=200]
+ *       [duration=30] [warmup=5] [properties=200] [raceParallelism=4]
+ * - mix: search(검색 위주) / approve(요청-승인 위주) / race(계약 완료 경합) / mixed
+ */
+public class LoadGenerator {
+	private static final int PAGE_SIZE = 20;
+	// open 모드에서 작업이 시작되었어야 할 시각 (지연 시간을 여기서부터 잰다)
+	private static final ThreadLocal<Long> OPEN_LOOP_START = new ThreadLocal<>();
+
+	private final Options options;
+	private final IPropertyService propertyService;
+	private final IContractRequestService requestService;
+	private final IContractService contractService;
+	private final BenchmarkFixtures fixtures;
+
+	private final Map<String, OperationStats> stats = new LinkedHashMap<>();
+	private final Queue<Long> pendingRequestIds = new ConcurrentLinkedQueue<>();
+	private final List<Long> propertyIds = new ArrayList<>();
+	private final ExecutorService raceExecutor;
+	private final List<Operation> operations = new ArrayList<>();
+	private int totalWeight;
+
+	private User lessor;
+	private User lessee;
+	private volatile boolean recording;
+
+	private LoadGenerator(Options options) {
+		this.options = options;
+		UserRepository userRepository = new UserRepository();
+		PropertyRepository propertyRepository = new PropertyRepository();
+		ContractRequestRepository requestRepository = new ContractRequestRepository();
+		ContractRepository contractRepository = new ContractRepository();
+		ContractValidator contractValidator = new ContractValidator();
+
+		this.propertyService = new PropertyService(propertyRepository, userRepository, new PropertyValidator());
+		this.requestService = new ContractRequestService(requestRepository, propertyRepository, contractValidator);
+		this.contractService = new ContractService(contractRepository, requestRepository, propertyRepository,
+			contractValidator);
+		this.fixtures = new BenchmarkFixtures(userRepository, propertyRepository, requestRepository);
+		this.raceExecutor = Executors.newCachedThreadPool(runnable -> {
+			Thread thread = new Thread(runnable, "load-race");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		for (String name : List.of("search", "request", "approve", "completeContract"))
+			stats.put(name, new OperationStats());
+	}
+
+	public static void main(String[] args) {
+		Options options = Options.parse(args);
+		LoadGenerator generator = new LoadGenerator(options);
+		try {
+			new MigrationRunner().migrate();
+			generator.run();
+		} finally {
+			generator.raceExecutor.shutdownNow();
+			generator.fixtures.cleanup();
+			DBConnectionManager.shutdown();
+		}
+	}
+
+	private void run() {
+		setUp();
+		System.out.println("=== 부하 생성: " + options + " ===");
+
+		long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(options.warmupSeconds);
+		long end = warmupEnd + TimeUnit.SECONDS.toNanos(options.durationSeconds);
+		Thread recorder = new Thread(() -> {
+			long wait;
+			while ((wait = warmupEnd - System.nanoTime()) > 0)
+				LockSupport.parkNanos(wait);
+			recording = true;
+		}, "load-warmup");
+		recorder.setDaemon(true);
+		recorder.start();
+
+		if (options.openLoop)
+			runOpenLoop(end);
+		else
+			runClosedLoop(end);
+
+		report();
+	}
+
+	// 검색/요청 대상 매물과 작업 비율 준비
+	private void setUp() {
+		lessor = fixtures.createUser("load-lessor", Role.LESSOR);
+		lessee = fixtures.createUser("load-lessee", Role.LESSEE);
+		for (int i = 0; i < options.properties; i++)
+			propertyIds.add(fixtures.createProperty(lessor, i).getId());
+
+		switch (options.mix) {
+			case "search":
+				addOperation(90, this::search);
+				addOperation(10, this::request);
+				break;
+			case "approve":
+				addOperation(20, this::search);
+				addOperation(40, this::request);
+				addOperation(40, this::approve);
+				break;
+			case "race":
+				addOperation(100, this::raceComplete);
+				break;
+			case "mixed":
+				addOperation(70, this::search);
+				addOperation(15, this::request);
+				addOperation(10, this::approve);
+				addOperation(5, this::raceComplete);
+				break;
+			default:
+				throw new IllegalArgumentException("알 수 없는 mix입니다: " + options.mix);
+		}
+	}
+
+	private void addOperation(int weight, Runnable action) {
+		operations.add(new Operation(weight, action));
+		totalWeight += weight;
+	}
+
+	private Runnable pickOperation() {
+		int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+		for (Operation operation : operations) {
+			pick -= operation.weight;
+			if (pick < 0)
+				return operation.action;
+		}
+		return operations.get(operations.size() - 1).action;
+	}
+
+	// ======================================= 부하 방식 =======================================
+	private void runClosedLoop(long end) {
+		CountDownLatch done = new CountDownLatch(options.threads);
+		for (int i = 0; i < options.threads; i++) {
+			Thread worker = new Thread(() -> {
+				try {
+					while (System.nanoTime() < end)
+						pickOperation().run();
+				} finally {
+					done.countDown();
+				}
+			}, "load-worker-" + i);
+			worker.setDaemon(true);
+			worker.start();
+		}
+		await(done);
+	}
+
+	private void runOpenLoop(long end) {
+		ExecutorService executor = ServiceExecutors.create();
+		long interval = TimeUnit.SECONDS.toNanos(1) / options.rate;
+		long next = System.nanoTime();
+		LongAdder dropped = new LongAdder();
+		try {
+			while (next < end) {
+				long wait;
+				while ((wait = next - System.nanoTime()) > 0)
+					LockSupport.parkNanos(wait);
+				long intendedStart = next;
+				Runnable operation = pickOperation();
+				try {
+					executor.execute(() -> {
+						OPEN_LOOP_START.set(intendedStart);
+						try {
+							operation.run();
+						} finally {
+							OPEN_LOOP_START.remove();
+						}
+					});
+				} catch (RuntimeException e) {
+					dropped.increment();
+				}
+				next += interval;
+			}
+		} finally {
+			executor.shutdown();
+			try {
+				if (!executor.awaitTermination(30, TimeUnit.SECONDS))
+					executor.shutdownNow();
+			} catch (InterruptedException e) {
+				executor.shutdownNow();
+				Thread.currentThread().interrupt();
+			}
+		}
+		if (dropped.sum() > 0)
+			System.out.println("작업 제출 실패: " + dropped.sum() + "건");
+	}
+
+	// ======================================= 작업 =======================================
+	private void search() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		PropertyFilter.Builder filter = PropertyFilter.builder()
+			.city(BenchmarkFixtures.CITIES.get(random.nextInt(BenchmarkFixtures.CITIES.size())));
+		if (random.nextBoolean())
+			filter.propertyTypes(List.of(PropertyType.values()[random.nextInt(PropertyType.values().length)]));
+		if (random.nextBoolean())
+			filter.dealTypes(List.of(DealType.values()[random.nextInt(DealType.values().length)]));
+		if (random.nextBoolean())
+			filter.maxPrice(10_000_000L * (1 + random.nextInt(10)));
+		PropertyFilter built = filter.build();
+		measure("search", () -> propertyService.findPropertiesByFilter(built, PAGE_SIZE, null));
+	}
+
+	private void request() {
+		Long propertyId = propertyIds.get(ThreadLocalRandom.current().nextInt(propertyIds.size()));
+		ContractRequest request = measure("request", () -> requestService.createRequest(lessee, propertyId));
+		if (request != null)
+			pendingRequestIds.add(request.getId());
+	}
+
+	private void approve() {
+		Long requestId = pendingRequestIds.poll();
+		if (requestId == null) {
+			// 승인할 요청이 없으면 요청부터 만든다.
+			request();
+			return;
+		}
+		measure("approve", () -> requestService.approveRequest(lessor, requestId));
+	}
+
+	// 준비(측정 제외) 후 같은 요청에 completeContract를 동시에 호출한다.
+	private void raceComplete() {
+		ContractRequest request;
+		try {
+			request = fixtures.prepareApprovedRequest(lessor, lessee, ThreadLocalRandom.current().nextInt(1000));
+		} catch (RuntimeException e) {
+			stats.get("completeContract").recordSetupFailure();
+			return;
+		}
+
+		Long openLoopStart = OPEN_LOOP_START.get();
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(options.raceParallelism);
+		for (int i = 0; i < options.raceParallelism; i++) {
+			raceExecutor.execute(() -> {
+				if (openLoopStart != null)
+					OPEN_LOOP_START.set(openLoopStart);
+				try {
+					await(start);
+					measure("completeContract", () -> contractService.completeContract(request.getId()));
+				} finally {
+					OPEN_LOOP_START.remove();
+					done.countDown();
+				}
+			});
+		}
+		start.countDown();
+		await(done);
+	}
+
+	// 성공하면 결과를, 실패하면 오류를 기록하고 null을 돌려준다.
+	private <T> T measure(String name, Supplier<T> action) {
+		Long intendedStart = OPEN_LOOP_START.get();
+		long startNanos = intendedStart != null ? intendedStart : System.nanoTime();
+		try {
+			T result = action.get();
+			if (recording)
+				stats.get(name).recordSuccess(System.nanoTime() - startNanos);
+			return result;
+		} catch (CustomException e) {
+			if (recording)
+				stats.get(name).recordError(System.nanoTime() - startNanos, e.getCode().name());
+		} catch (RuntimeException e) {
+			if (recording)
+				stats.get(name).recordError(System.nanoTime() - startNanos, e.getClass().getSimpleName());
+		}
+		return null;
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	// ======================================= 결과 =======================================
+	private void report() {
+		System.out.printf("%-17s %8s %9s %9s %9s %9s %9s %9s %7s%n",
+			"작업", "횟수", "ops/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9", "max", "오류율");
+		for (Map.Entry<String, OperationStats> entry : stats.entrySet()) {
+			OperationStats operation = entry.getValue();
+			LatencyHistogram histogram = operation.histogram;
+			long count = histogram.getCount();
+			if (count == 0 && operation.setupFailures.sum() == 0)
+				continue;
+			System.out.printf("%-17s %8d %9.1f %9.3f %9.3f %9.3f %9.3f %9.3f %6.2f%%%n",
+				entry.getKey(), count, count / (double)options.durationSeconds,
+				millis(histogram.getPercentileNanos(50)), millis(histogram.getPercentileNanos(90)),
+				millis(histogram.getPercentileNanos(99)), millis(histogram.getPercentileNanos(99.9)),
+				millis(histogram.getMaxNanos()), count == 0 ? 0 : operation.errors() * 100.0 / count);
+			operation.errorCounts.forEach((code, errors) ->
+				System.out.printf("    %-40s %d건%n", code, errors.sum()));
+			if (operation.setupFailures.sum() > 0)
+				System.out.printf("    %-40s %d건%n", "준비 실패(측정 제외)", operation.setupFailures.sum());
+		}
+		System.out.println(DBConnectionManager.getPool());
+	}
+
+	private static double millis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+
+	// 작업별 지연 시간과 오류 코드별 횟수
+	private static class OperationStats {
+		private final LatencyHistogram histogram = new LatencyHistogram();
+		private final Map<String, LongAdder> errorCounts = new ConcurrentHashMap<>();
+		private final LongAdder setupFailures = new LongAdder();
+
+		private void recordSuccess(long nanos) {
+			histogram.record(nanos);
+		}
+
+		private void recordError(long nanos, String code) {
+			histogram.record(nanos);
+			errorCounts.computeIfAbsent(code, key -> new LongAdder()).increment();
+		}
+
+		private void recordSetupFailure() {
+			setupFailures.increment();
+		}
+
+		private long errors() {
+			long total = 0;
+			for (LongAdder count : errorCounts.values())
+				total += count.sum();
+			return total;
+		}
+	}
+
+	private static class Operation {
+		private final int weight;
+		private final Runnable action;
+
+		private Operation(int weight, Runnable action) {
+			this.weight = weight;
+			this.action = action;
+		}
+	}
+
+	private static class Options {
+		private String mix = "mixed";
+		private boolean openLoop;
+		private int threads = 16;
+		private int rate = 200;
+		private int durationSeconds = 30;
+		private int warmupSeconds = 5;
+		private int properties = 200;
+		private int raceParallelism = 4;
+
+		private static Options parse(String[] args) {
+			Options options = new Options();
+			for (String arg : args) {
+				int eq = arg.indexOf('=');
+				if (eq <= 0)
+					throw new IllegalArgumentException("key=value 형식이 아닙니다: " + arg);
+				String key = arg.substring(0, eq);
+				String value = arg.substring(eq + 1);
+				switch (key) {
+					case "mix":
+						options.mix = value;
+						break;
+					case "mode":
+						if (!value.equals("open") && !value.equals("closed"))
+							throw new IllegalArgumentException("mode는 open 또는 closed입니다: " + value);
+						options.openLoop = value.equals("open");
+						break;
+					case "threads":
+						options.threads = positive(key, value);
+						break;
+					case "rate":
+						options.rate = positive(key, value);
+						break;
+					case "duration":
+						options.durationSeconds = positive(key, value);
+						break;
+					case "warmup":
+						options.warmupSeconds = Integer.parseInt(value);
+						break;
+					case "properties":
+						options.properties = positive(key, value);
+						break;
+					case "raceParallelism":
+						options.raceParallelism = positive(key, value);
+						break;
+					default:
+						throw new IllegalArgumentException("알 수 없는 옵션입니다: " + key);
+				}
+			}
+			return options;
+		}
+
+		private static int positive(String key, String value) {
+			int parsed = Integer.parseInt(value);
+			if (parsed <= 0)
+				throw new IllegalArgumentException(key + "는 1 이상이어야 합니다: " + value);
+			return parsed;
+		}
+
+		@Override
+		public String toString() {
+			return "mix=" + mix + ", mode=" + (openLoop ? "open(" + rate + "/s)" : "closed(" + threads + " threads)")
+				+ ", duration=" + durationSeconds + "s, warmup=" + warmupSeconds + "s, properties=" + properties
+				+ ", raceParallelism=" + raceParallelism;
+		}
+	}
+}
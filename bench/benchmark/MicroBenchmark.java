@@ -0,0 +1,129 @@
+package benchmark;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 라이브러리 없이 쓰는 작은 마이크로벤치마크 실행기 (JMH의 warmup/measurement 반복과 gc 프로파일러를 흉내 낸다)
+ * - 측정 반복마다 정해진 시간 동안 작업을 실행하고 ns/op와 B/op(스레드가 할당한 바이트)를 구한다.
+ * - 작업의 반환값은 sink에 써서 JIT가 계산을 없애지 못하게 한다.
+ * - 같은 JVM에서 연달아 실행하므로 결과는 같은 환경에서의 상대 비교용으로만 쓴다.
+ */
+class MicroBenchmark {
+	@FunctionalInterface
+	interface Body {
+		Object run() throws Exception;
+	}
+
+	private static final com.sun.management.ThreadMXBean THREADS =
+		(com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+	// 시간 확인 비용이 결과에 섞이지 않도록 이 횟수만큼 실행한 뒤 시간을 확인한다.
+	private static final int BATCH = 256;
+
+	static volatile Object sink;
+
+	private final int warmupIterations;
+	private final int measureIterations;
+	private final long iterationNanos;
+
+	MicroBenchmark(int warmupIterations, int measureIterations, long iterationMillis) {
+		this.warmupIterations = warmupIterations;
+		this.measureIterations = measureIterations;
+		this.iterationNanos = TimeUnit.MILLISECONDS.toNanos(iterationMillis);
+		if (THREADS.isThreadAllocatedMemorySupported())
+			THREADS.setThreadAllocatedMemoryEnabled(true);
+	}
+
+	Result run(String name, Body body) throws Exception {
+		for (int i = 0; i < warmupIterations; i++)
+			iterate(body);
+
+		double[] nanosPerOp = new double[measureIterations];
+		long operations = 0;
+		long allocatedBytes = 0;
+		long gcCount = gcCount();
+		long gcMillis = gcMillis();
+		for (int i = 0; i < measureIterations; i++) {
+			long allocatedBefore = allocatedBytes();
+			long start = System.nanoTime();
+			long ops = iterate(body);
+			long elapsed = System.nanoTime() - start;
+			allocatedBytes += allocatedBytes() - allocatedBefore;
+			operations += ops;
+			nanosPerOp[i] = elapsed / (double)ops;
+		}
+		return new Result(name, nanosPerOp, allocatedBytes / (double)operations,
+			gcCount() - gcCount, gcMillis() - gcMillis);
+	}
+
+	private long iterate(Body body) throws Exception {
+		long ops = 0;
+		long deadline = System.nanoTime() + iterationNanos;
+		do {
+			for (int i = 0; i < BATCH; i++)
+				sink = body.run();
+			ops += BATCH;
+		} while (System.nanoTime() < deadline);
+		return ops;
+	}
+
+	// 현재 스레드가 지금까지 할당한 바이트 (지원하지 않는 JVM이면 -1)
+	private static long allocatedBytes() {
+		if (!THREADS.isThreadAllocatedMemoryEnabled())
+			return -1;
+		return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	private static long gcCount() {
+		long total = 0;
+		for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans())
+			total += Math.max(0, gc.getCollectionCount());
+		return total;
+	}
+
+	private static long gcMillis() {
+		long total = 0;
+		for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans())
+			total += Math.max(0, gc.getCollectionTime());
+		return total;
+	}
+
+	static class Result {
+		private final String name;
+		private final double meanNanos;
+		private final double errorNanos;
+		private final double bytesPerOp;
+		private final long gcCount;
+		private final long gcMillis;
+
+		private Result(String name, double[] nanosPerOp, double bytesPerOp, long gcCount, long gcMillis) {
+			this.name = name;
+			double sum = 0;
+			for (double value : nanosPerOp)
+				sum += value;
+			this.meanNanos = sum / nanosPerOp.length;
+			double squares = 0;
+			for (double value : nanosPerOp)
+				squares += (value - meanNanos) * (value - meanNanos);
+			this.errorNanos = nanosPerOp.length > 1 ? Math.sqrt(squares / (nanosPerOp.length - 1)) : 0;
+			this.bytesPerOp = bytesPerOp;
+			this.gcCount = gcCount;
+			this.gcMillis = gcMillis;
+		}
+
+		String getName() {
+			return name;
+		}
+
+		double getBytesPerOp() {
+			return bytesPerOp;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%-40s %12.1f ± %8.1f ns/op %12.1f B/op %6d gc %6d ms",
+				name, meanNanos, errorNanos, bytesPerOp, gcCount, gcMillis);
+		}
+	}
+}
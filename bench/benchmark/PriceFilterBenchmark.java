@@ -0,0 +1,218 @@
+package benchmark;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import config.DBConnectionManager;
+import config.MigrationRunner;
+import domain.Location;
+import domain.Price;
+import domain.Property;
+import domain.User;
+import domain.enums.DealType;
+import domain.enums.PropertyType;
+import domain.enums.Role;
+import dto.PropertyFilter;
+import metrics.LatencyHistogram;
+import repository.PropertyFilterSql;
+import repository.PropertyRepository;
+import repository.UserRepository;
+
+/**
+ * 가격 검색 조건 비교: 거래 유형별 OR 조건(이전 방식) vs effective_price 범위 조건
+ * - 테스트용 임대인 한 명의 매물을 rows건 저장한 뒤, 같은 무작위 가격 범위로 두 SQL을 번갈아 실행한다.
+ * - 가격만 검색 / 시·군·구 + 가격 검색 두 경우의 지연 시간 백분위수와 EXPLAIN의 사용 인덱스, 예상 행 수를 출력한다.
+ * 저장한 매물은 끝난 뒤 실제로 삭제하므로 개발용 DB에서 실행한다.
+ *
+ * 실행: java -cp "bin:bench-bin:resources:lib/*" benchmark.PriceFilterBenchmark [행 수] [쿼리 수]
+ */
+public class PriceFilterBenchmark {
+	private static final int DEFAULT_ROWS = 200_000;
+	private static final int DEFAULT_QUERIES = 200;
+	private static final int WARMUP_QUERIES = 20;
+	private static final long MAX_DEPOSIT = 1_000_000_000L;
+	private static final long MAX_MONTHLY_RENT = 3_000_000L;
+
+	private final UserRepository userRepository = new UserRepository();
+	private final PropertyRepository propertyRepository = new PropertyRepository();
+	private final Random random = new Random(42);
+
+	public static void main(String[] args) {
+		int rows = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROWS;
+		int queries = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_QUERIES;
+		try {
+			new MigrationRunner().migrate();
+			new PriceFilterBenchmark().run(rows, queries);
+		} finally {
+			DBConnectionManager.shutdown();
+		}
+	}
+
+	private void run(int rows, int queries) {
+		User lessor = userRepository.save(new User(null, "bench-price-" + System.currentTimeMillis() + "@test",
+			Role.LESSOR));
+		try {
+			seed(lessor, rows);
+			System.out.println("=== 가격 검색 조건 비교 (" + rows + "행, " + queries + "회) ===");
+			compare("가격만", false, queries);
+			compare("지역+가격", true, queries);
+		} finally {
+			deleteProperties(lessor);
+		}
+	}
+
+	private void seed(User lessor, int rows) {
+		List<Property> properties = new ArrayList<>(rows);
+		for (int i = 0; i < rows; i++) {
+			DealType dealType = DealType.values()[random.nextInt(DealType.values().length)];
+			long deposit = (1 + random.nextInt(1_000)) * (MAX_DEPOSIT / 1_000);
+			long monthlyRent = dealType == DealType.MONTHLY ? (1 + random.nextInt(300)) * (MAX_MONTHLY_RENT / 300) : 0;
+			properties.add(new Property(null, lessor.getId(),
+				new Location(randomOf(BenchmarkFixtures.CITIES), randomOf(BenchmarkFixtures.DISTRICTS)),
+				new Price(deposit, monthlyRent), PropertyType.values()[random.nextInt(PropertyType.values().length)],
+				dealType));
+		}
+		long start = System.nanoTime();
+		int failures = propertyRepository.insertAll(properties).getFailureCount();
+		System.out.printf("매물 %d건 저장: %.1fs (실패 %d건)%n", rows, (System.nanoTime() - start) / 1e9, failures);
+	}
+
+	private void compare(String name, boolean withLocation, int queries) {
+		LatencyHistogram legacy = new LatencyHistogram();
+		LatencyHistogram range = new LatencyHistogram();
+		long legacyRows = 0;
+		long rangeRows = 0;
+
+		for (int i = 0; i < WARMUP_QUERIES + queries; i++) {
+			PropertyFilter filter = randomFilter(withLocation);
+			// 실행 순서에 따른 캐시 효과가 한쪽에 몰리지 않도록 번갈아 먼저 실행
+			boolean legacyFirst = i % 2 == 0;
+			boolean recording = i >= WARMUP_QUERIES;
+			for (int turn = 0; turn < 2; turn++) {
+				boolean runLegacy = legacyFirst == (turn == 0);
+				List<Object> params = new ArrayList<>();
+				String sql = runLegacy ? legacySql(filter, params) : PropertyFilterSql.build(filter, params).toString();
+				long start = System.nanoTime();
+				int count = count(sql, params);
+				long elapsed = System.nanoTime() - start;
+				if (!recording)
+					continue;
+				if (runLegacy) {
+					legacy.record(elapsed);
+					legacyRows += count;
+				} else {
+					range.record(elapsed);
+					rangeRows += count;
+				}
+			}
+		}
+
+		// 두 조건의 결과 행 수가 같아야 비교가 의미 있다.
+		System.out.println("--- " + name + (legacyRows == rangeRows ? "" : " (결과 행 수 불일치!)") + " ---");
+		print("OR 조건", legacy, legacyRows, queries);
+		print("범위 조건", range, rangeRows, queries);
+
+		PropertyFilter sample = randomFilter(withLocation);
+		List<Object> params = new ArrayList<>();
+		System.out.println("  OR 조건   EXPLAIN: " + explain(legacySql(sample, params), params));
+		params = new ArrayList<>();
+		System.out.println("  범위 조건 EXPLAIN: " + explain(PropertyFilterSql.build(sample, params).toString(), params));
+	}
+
+	private PropertyFilter randomFilter(boolean withLocation) {
+		PropertyFilter.Builder builder = PropertyFilter.builder();
+		if (withLocation) {
+			builder.city(randomOf(BenchmarkFixtures.CITIES));
+			builder.district(randomOf(BenchmarkFixtures.DISTRICTS));
+		}
+		// 전체 가격 폭의 1~5% 구간
+		long min = (long)(random.nextDouble() * MAX_DEPOSIT * 0.95);
+		long width = (long)(MAX_DEPOSIT * (0.01 + random.nextDouble() * 0.04));
+		return builder.minPrice(Math.max(1, min)).maxPrice(min + width).build();
+	}
+
+	/**
+	 * V3 이전의 가격 조건 (거래 유형에 따라 다른 컬럼을 비교하는 OR)
+	 * 나머지 조건은 PropertyFilterSql과 같다.
+	 */
+	private String legacySql(PropertyFilter filter, List<Object> params) {
+		PropertyFilter withoutPrice = PropertyFilter.builder()
+			.city(filter.getCity())
+			.district(filter.getDistrict())
+			.propertyTypes(filter.getPropertyTypes())
+			.dealTypes(filter.getDealTypes())
+			.minPrice(0L)
+			.maxPrice(0L)
+			.build();
+		StringBuilder sb = PropertyFilterSql.build(withoutPrice, params);
+		sb.append(" AND ((deal_type = 'MONTHLY' AND monthly_rent BETWEEN ? AND ?)")
+			.append(" OR (deal_type != 'MONTHLY' AND deposit BETWEEN ? AND ?))");
+		params.add(filter.getMinPrice());
+		params.add(filter.getMaxPrice());
+		params.add(filter.getMinPrice());
+		params.add(filter.getMaxPrice());
+		return sb.toString();
+	}
+
+	// 결과를 모두 읽어 행 수를 센다. (행 매핑 비용은 두 조건에서 같으므로 제외)
+	private int count(String sql, List<Object> params) {
+		try (Connection conn = DBConnectionManager.getConnection();
+			 PreparedStatement stmt = conn.prepareStatement(sql)) {
+			bind(stmt, params);
+			int count = 0;
+			try (ResultSet rs = stmt.executeQuery()) {
+				while (rs.next())
+					count++;
+			}
+			return count;
+		} catch (SQLException e) {
+			throw new RuntimeException("가격 검색 쿼리 실행에 실패했습니다.", e);
+		}
+	}
+
+	private String explain(String sql, List<Object> params) {
+		try (Connection conn = DBConnectionManager.getConnection();
+			 PreparedStatement stmt = conn.prepareStatement("EXPLAIN " + sql)) {
+			bind(stmt, params);
+			try (ResultSet rs = stmt.executeQuery()) {
+				if (!rs.next())
+					return "-";
+				return "type=" + rs.getString("type") + ", key=" + rs.getString("key") + ", rows="
+					+ rs.getLong("rows") + ", Extra=" + rs.getString("Extra");
+			}
+		} catch (SQLException e) {
+			throw new RuntimeException("실행 계획 조회에 실패했습니다.", e);
+		}
+	}
+
+	private void bind(PreparedStatement stmt, List<Object> params) throws SQLException {
+		for (int i = 0; i < params.size(); i++)
+			stmt.setObject(i + 1, params.get(i));
+	}
+
+	private void print(String name, LatencyHistogram histogram, long rows, int queries) {
+		System.out.printf("  %-8s p50 %.2fms, p99 %.2fms, max %.2fms, 평균 결과 %.1f행%n", name,
+			histogram.getPercentileNanos(50) / 1e6, histogram.getPercentileNanos(99) / 1e6,
+			histogram.getMaxNanos() / 1e6, rows / (double)queries);
+	}
+
+	// 벤치마크 매물은 수가 많아 한 건씩 삭제 처리하지 않고 실제로 삭제한다.
+	private void deleteProperties(User lessor) {
+		try (Connection conn = DBConnectionManager.getConnection();
+			 PreparedStatement stmt = conn.prepareStatement("DELETE FROM properties WHERE owner_id = ?")) {
+			stmt.setLong(1, lessor.getId());
+			stmt.executeUpdate();
+		} catch (SQLException e) {
+			throw new RuntimeException("벤치마크 매물 삭제에 실패했습니다.", e);
+		}
+	}
+
+	private <T> T randomOf(List<T> values) {
+		return values.get(random.nextInt(values.size()));
+	}
+}
@@ -0,0 +1,20 @@
+package view.ui;
+
+import java.util.List;
+
+/**
+ * 벤치마크에서 UIHelper의 package-private 메서드를 호출하기 위한 진입점
+ * bench 소스 루트에만 있으므로 애플리케이션 빌드(src)에는 포함되지 않는다.
+ */
+public final class UIHelperAccess {
+	private UIHelperAccess() {
+	}
+
+	public static int getDisplayLength(String str) {
+		return UIHelper.getDisplayLength(str);
+	}
+
+	public static List<String> wrapText(String text, int maxWidth) {
+		return UIHelper.wrapText(text, maxWidth);
+	}
+}
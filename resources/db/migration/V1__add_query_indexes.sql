@@ -0,0 +1,20 @@
+-- 조회 쿼리별 보조 인덱스
+-- (기본 스키마는 resources/sql/01_schema.sql, 이후 변경은 이 디렉토리의 버전별 스크립트로 관리)
+
+-- 매물 검색 (PropertyRepository.findByFilter)
+-- 지역 → 유형 → 거래 유형 순으로 범위를 좁히고, 상태와 가격 조건은 인덱스 안에서 걸러낸다.
+CREATE INDEX idx_properties_search
+    ON properties (city, district, property_type, deal_type, status, deposit, monthly_rent);
+
+-- 소유자별 매물 조회 (PropertyRepository.findByOwnerId ... deleted_at IS NULL)
+CREATE INDEX idx_properties_owner_deleted
+    ON properties (owner_id, deleted_at);
+
+-- 임차인이 보낸 요청 목록 (ContractRequestRepository.findAllByRequesterId)
+CREATE INDEX idx_contract_requests_requester
+    ON contract_requests (requester_id, status);
+
+-- 임대인이 받은 요청 목록 (ContractRequestRepository.findAllByPropertyOwnerId)
+-- properties(owner_id)로 매물을 찾은 뒤 contract_requests(property_id)로 조인한다.
+CREATE INDEX idx_contract_requests_property
+    ON contract_requests (property_id, status);
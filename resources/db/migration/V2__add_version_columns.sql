@@ -0,0 +1,9 @@
+-- 낙관적 락용 버전 컬럼
+-- UPDATE ... SET version = version + 1 WHERE id = ? AND version = ? 로 수정하여
+-- 조회 이후 다른 사용자가 먼저 수정한 경우 덮어쓰지 않고 충돌로 처리한다.
+
+ALTER TABLE properties
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE contract_requests
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,15 @@
+-- 매물 검색 기준 가격 (월세는 월세, 전세/매매는 보증금)
+-- 거래 유형에 따라 다른 컬럼을 비교하던 OR 조건을 effective_price 범위 조건 하나로 바꾸어 인덱스를 탈 수 있게 한다.
+-- STORED 생성 컬럼이므로 INSERT/UPDATE 시 DB가 자동으로 계산한다. (직접 값을 넣지 않는다)
+
+ALTER TABLE properties
+    ADD COLUMN effective_price BIGINT
+        AS (CASE WHEN deal_type = 'MONTHLY' THEN monthly_rent ELSE deposit END) STORED;
+
+-- 가격 조건만 있는 검색
+CREATE INDEX idx_properties_effective_price
+    ON properties (effective_price);
+
+-- 지역 + 가격 검색 (지역으로 좁힌 뒤 가격 범위를 인덱스에서 읽는다)
+CREATE INDEX idx_properties_location_price
+    ON properties (city, district, effective_price);
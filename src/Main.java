@@ -1,6 +1,18 @@
+import api.ApiTokens;
+import api.HttpApiServer;
+import config.DBConnectionManager;
+import config.MigrationRunner;
+import config.ServiceExecutors;
+import metrics.MethodMetrics;
+import metrics.MetricsReporter;
+import metrics.TimedProxy;
 import repository.ContractRepository;
 import repository.ContractRequestRepository;
 import repository.PropertyRepository;
+import repository.TimedContractRepository;
+import repository.TimedContractRequestRepository;
+import repository.TimedPropertyRepository;
+import repository.TimedUserRepository;
 import repository.UserRepository;
 import service.AuthService;
 import service.ContractRequestService;
@@ -13,9 +25,20 @@ import service.PropertyService;
 import validator.AuthValidator;
 import validator.ContractValidator;
 import validator.PropertyValidator;
+import view.ConsoleServer;
 import view.MainView;
 
 public class Main {
+	private static final int DEFAULT_SERVER_PORT = 2323;
+	private static final int DEFAULT_HTTP_PORT = 8080;
+
+	/**
+	 * 실행 방법
+	 * - 인자 없음: 현재 터미널에서 한 명의 사용자가 사용
+	 * - --server [포트]: 여러 사용자가 telnet/nc로 접속하는 콘솔 서버 (기본 포트 2323, 루프백 주소만 허용)
+	 * - --http [포트]: 외부 연동용 HTTP/JSON API 서버 (기본 포트 8080, 기본 루프백 주소, HTTP_API_SECRET 필요)
+	 * - --issue-api-token <이메일>: HTTP API용 인증 토큰 발급 (서버와 같은 HTTP_API_SECRET 필요)
+	 */
 	public static void main(String[] args) {
 		// 윈도우에서 ANSI 색상과 이모지 지원을 위한 설정
 		try {
@@ -29,11 +52,26 @@ public class Main {
 			// 설정 실패해도 계속 진행
 		}
 
+		// 종료 시 커넥션 풀 정리
+		Runtime.getRuntime().addShutdownHook(new Thread(DBConnectionManager::shutdown));
+
+		// 스키마 마이그레이션 (아직 적용되지 않은 버전만 실행)
+		new MigrationRunner().migrate();
+
+		// 메서드별 지연 시간 기록 (METRICS_ENABLED=false면 끈다)
+		boolean metricsEnabled = !"false".equalsIgnoreCase(System.getenv("METRICS_ENABLED"));
+		MethodMetrics metrics = MethodMetrics.getDefault();
+
 		// Repository 생성
-		UserRepository userRepository = new UserRepository();
-		PropertyRepository propertyRepository = new PropertyRepository();
-		ContractRequestRepository contractRequestRepository = new ContractRequestRepository();
-		ContractRepository contractRepository = new ContractRepository();
+		UserRepository userRepository = metricsEnabled ? new TimedUserRepository(metrics) : new UserRepository();
+		PropertyRepository propertyRepository = metricsEnabled ? new TimedPropertyRepository(metrics)
+			: new PropertyRepository();
+		ContractRequestRepository contractRequestRepository = metricsEnabled
+			? new TimedContractRequestRepository(metrics) : new ContractRequestRepository();
+		ContractRepository contractRepository = metricsEnabled ? new TimedContractRepository(metrics)
+			: new ContractRepository();
+		// findById 캐시 적중률 등은 항상 집계되므로 통계 보고서에 함께 싣는다.
+		metrics.registerGauge("PropertyRepository.cache", propertyRepository.getCache()::toString);
 
 		// Validator 생성
 		AuthValidator authValidator = new AuthValidator();
@@ -47,6 +85,54 @@ public class Main {
 			propertyRepository, contractValidator);
 		IContractService contractService = new ContractService(contractRepository, contractRequestRepository,
 			propertyRepository, contractValidator);
+		if (metricsEnabled) {
+			authService = TimedProxy.wrap(IAuthService.class, authService, metrics);
+			propertyService = TimedProxy.wrap(IPropertyService.class, propertyService, metrics);
+			requestService = TimedProxy.wrap(IContractRequestService.class, requestService, metrics);
+			contractService = TimedProxy.wrap(IContractService.class, contractService, metrics);
+
+			MetricsReporter reporter = MetricsReporter.fromEnv(metrics);
+			if (reporter != null) {
+				reporter.start();
+				Runtime.getRuntime().addShutdownHook(new Thread(reporter::stop));
+			}
+		}
+
+		// HTTP API 토큰 발급: 존재하는 사용자에게만 발급
+		if (args.length > 0 && args[0].equals("--issue-api-token")) {
+			if (args.length < 2) {
+				System.err.println("사용법: --issue-api-token <이메일>");
+				return;
+			}
+			String email = args[1].trim();
+			if (authService.login(email).isEmpty()) {
+				System.err.println("존재하지 않는 사용자입니다: " + email);
+				return;
+			}
+			System.out.println(ApiTokens.fromEnv().issue(email));
+			return;
+		}
+
+		// HTTP API 모드: 요청은 가상 스레드(지원하지 않으면 스레드 풀)에서 처리
+		if (args.length > 0 && args[0].equals("--http")) {
+			int port = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_HTTP_PORT;
+			HttpApiServer apiServer = new HttpApiServer(HttpApiServer.bindAddressFromEnv(), port, ApiTokens.fromEnv(),
+				authService, propertyService, requestService, contractService, ServiceExecutors.getDefault());
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+				apiServer.stop(1);
+				ServiceExecutors.shutdown();
+			}));
+			apiServer.start();
+			return;
+		}
+
+		// 서버 모드: 접속한 세션마다 메인 뷰 실행
+		if (args.length > 0 && args[0].equals("--server")) {
+			int port = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SERVER_PORT;
+			new ConsoleServer(port, authService, propertyService, requestService, contractService, userRepository)
+				.start();
+			return;
+		}
 
 		// 메인 뷰 시작
 		MainView mainView = new MainView(authService, propertyService, requestService, contractService, userRepository);
@@ -0,0 +1,104 @@
+package api;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Optional;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * HTTP API 인증 토큰 발급/검증
+ * - 토큰은 "이메일|만료 시각(epoch 초)"를 서버 비밀 키(HTTP_API_SECRET)로 HMAC-SHA256 서명한 값이다.
+ * - 비밀 키를 모르면 토큰을 만들 수 없으므로 이메일만 알아서는 다른 사용자로 요청할 수 없다.
+ * - 토큰은 Main --issue-api-token <이메일>로 발급한다. (서버와 같은 HTTP_API_SECRET 필요)
+ */
+public class ApiTokens {
+	private static final String ALGORITHM = "HmacSHA256";
+	private static final int MIN_SECRET_LENGTH = 32;
+	private static final long DEFAULT_TTL_HOURS = 24;
+
+	private final SecretKeySpec key;
+	private final long ttlSeconds;
+
+	public ApiTokens(String secret, long ttlSeconds) {
+		if (secret == null || secret.length() < MIN_SECRET_LENGTH)
+			throw new IllegalArgumentException("API 비밀 키는 " + MIN_SECRET_LENGTH + "자 이상이어야 합니다.");
+		this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+		this.ttlSeconds = ttlSeconds;
+	}
+
+	/**
+	 * 환경 변수 설정으로 만든다.
+	 * - HTTP_API_SECRET: 서명 키 (필수, 32자 이상)
+	 * - HTTP_API_TOKEN_TTL_HOURS: 토큰 유효 시간 (기본 24시간)
+	 */
+	public static ApiTokens fromEnv() {
+		String secret = System.getenv("HTTP_API_SECRET");
+		if (secret == null || secret.length() < MIN_SECRET_LENGTH)
+			throw new RuntimeException("환경 변수 HTTP_API_SECRET을 " + MIN_SECRET_LENGTH + "자 이상으로 설정해주세요.");
+
+		long ttlHours = DEFAULT_TTL_HOURS;
+		String value = System.getenv("HTTP_API_TOKEN_TTL_HOURS");
+		if (value != null && !value.isBlank()) {
+			try {
+				ttlHours = Long.parseLong(value.trim());
+			} catch (NumberFormatException e) {
+				throw new RuntimeException("환경 변수 HTTP_API_TOKEN_TTL_HOURS의 값이 올바르지 않습니다: " + value);
+			}
+		}
+		return new ApiTokens(secret, ttlHours * 3600);
+	}
+
+	// 지금부터 유효 시간 동안 쓸 수 있는 토큰
+	public String issue(String email) {
+		long expiresAt = System.currentTimeMillis() / 1000 + ttlSeconds;
+		String payload = email + "|" + expiresAt;
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+		return encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + "." + encoder.encodeToString(sign(payload));
+	}
+
+	/**
+	 * 서명과 만료 시각을 확인한다.
+	 * @return 토큰의 이메일 (위조되었거나 만료되었거나 형식이 틀리면 empty)
+	 */
+	public Optional<String> verify(String token) {
+		if (token == null)
+			return Optional.empty();
+		int dot = token.indexOf('.');
+		if (dot <= 0)
+			return Optional.empty();
+		try {
+			Base64.Decoder decoder = Base64.getUrlDecoder();
+			String payload = new String(decoder.decode(token.substring(0, dot)), StandardCharsets.UTF_8);
+			byte[] signature = decoder.decode(token.substring(dot + 1));
+			// 비교 시간으로 서명을 추측할 수 없도록 고정 시간 비교
+			if (!MessageDigest.isEqual(sign(payload), signature))
+				return Optional.empty();
+
+			int bar = payload.lastIndexOf('|');
+			if (bar <= 0)
+				return Optional.empty();
+			long expiresAt = Long.parseLong(payload.substring(bar + 1));
+			if (expiresAt < System.currentTimeMillis() / 1000)
+				return Optional.empty();
+			return Optional.of(payload.substring(0, bar));
+		} catch (IllegalArgumentException e) {
+			// Base64/숫자 형식 오류
+			return Optional.empty();
+		}
+	}
+
+	private byte[] sign(String payload) {
+		try {
+			Mac mac = Mac.getInstance(ALGORITHM);
+			mac.init(key);
+			return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+		} catch (NoSuchAlgorithmException | InvalidKeyException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,335 @@
+package api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import domain.Contract;
+import domain.ContractRequest;
+import domain.Property;
+import domain.User;
+import domain.enums.DealType;
+import domain.enums.PropertyType;
+import dto.PropertyFacets;
+import dto.PropertyFilter;
+import dto.PropertyPage;
+import exception.CustomException;
+import exception.ErrorCode;
+import service.IAuthService;
+import service.IContractRequestService;
+import service.IContractService;
+import service.IPropertyService;
+
+/**
+ * 외부 연동용 HTTP/JSON API (JDK 내장 HttpServer 사용)
+ * - 응답은 항상 Content-Length를 지정하므로 HTTP/1.1 keep-alive로 커넥션이 재사용된다.
+ * - 요청 처리는 생성자로 받은 Executor(기본은 가상 스레드)에서 실행된다.
+ * - 기본으로 루프백 주소에만 바인딩한다. (HTTP_BIND_ADDRESS로 변경)
+ * - 사용자는 Authorization: Bearer 토큰(ApiTokens)으로 인증하고, POST의 입력값은 쿼리 문자열로 받는다.
+ *
+ * GET  /properties?city=&district=&propertyTypes=A,B&dealTypes=A,B&minPrice=&maxPrice=&pageSize=&cursor=
+ * GET  /properties/facets?(검색 조건과 같음)             (조건을 좁힐 때의 항목별 매물 수)
+ * GET  /properties/{id}
+ * POST /contract-requests?propertyId={id}             (임차인)
+ * POST /contract-requests/{id}/approve                (임대인)
+ * POST /contract-requests/{id}/reject                 (임대인)
+ * POST /contracts/{requestId}/complete                (요청한 임차인)
+ */
+public class HttpApiServer {
+	private static final int DEFAULT_PAGE_SIZE = 20;
+	private static final String BEARER_PREFIX = "Bearer ";
+
+	private final HttpServer server;
+	private final ApiTokens tokens;
+	private final IAuthService authService;
+	private final IPropertyService propertyService;
+	private final IContractRequestService requestService;
+	private final IContractService contractService;
+
+	public HttpApiServer(InetAddress bindAddress, int port, ApiTokens tokens, IAuthService authService,
+		IPropertyService propertyService, IContractRequestService requestService, IContractService contractService,
+		Executor executor) {
+		this.tokens = tokens;
+		this.authService = authService;
+		this.propertyService = propertyService;
+		this.requestService = requestService;
+		this.contractService = contractService;
+		try {
+			this.server = HttpServer.create(new InetSocketAddress(bindAddress, port), 0);
+		} catch (IOException e) {
+			throw new RuntimeException("HTTP 서버 생성에 실패했습니다.", e);
+		}
+		server.setExecutor(executor);
+		server.createContext("/properties", exchange -> handle(exchange, this::routeProperties));
+		server.createContext("/contract-requests", exchange -> handle(exchange, this::routeContractRequests));
+		server.createContext("/contracts", exchange -> handle(exchange, this::routeContracts));
+	}
+
+	/**
+	 * 환경 변수 HTTP_BIND_ADDRESS의 주소 (없으면 루프백 주소)
+	 * 외부에서 접속해야 하면 0.0.0.0 등으로 지정한다.
+	 */
+	public static InetAddress bindAddressFromEnv() {
+		String host = System.getenv("HTTP_BIND_ADDRESS");
+		if (host == null || host.isBlank())
+			return InetAddress.getLoopbackAddress();
+		try {
+			return InetAddress.getByName(host.trim());
+		} catch (UnknownHostException e) {
+			throw new RuntimeException("환경 변수 HTTP_BIND_ADDRESS의 주소를 찾을 수 없습니다: " + host, e);
+		}
+	}
+
+	public void start() {
+		server.start();
+		System.out.println("✅ HTTP API 시작: " + server.getAddress());
+	}
+
+	// 진행 중인 요청이 끝나기를 최대 delaySeconds초 기다린 뒤 종료
+	public void stop(int delaySeconds) {
+		server.stop(delaySeconds);
+	}
+
+	// ======================================= 라우팅 =======================================
+	private Response routeProperties(HttpExchange exchange) {
+		String[] path = pathSegments(exchange);
+		requireMethod(exchange, "GET");
+		Map<String, String> query = parseQuery(exchange);
+
+		// GET /properties
+		if (path.length == 1) {
+			PropertyPage page = propertyService.findPropertiesByFilter(parseFilter(query),
+				parseInt(query.get("pageSize"), DEFAULT_PAGE_SIZE), query.get("cursor"));
+			return Response.ok(json -> JsonEncoder.write(json, page));
+		}
+		// GET /properties/facets
+		if (path.length == 2 && path[1].equals("facets")) {
+			PropertyFacets facets = propertyService.getFacets(parseFilter(query));
+			return Response.ok(json -> JsonEncoder.write(json, facets));
+		}
+		// GET /properties/{id}
+		if (path.length == 2) {
+			Property property = propertyService.findPropertyById(parseId(path[1]));
+			return Response.ok(json -> JsonEncoder.write(json, property));
+		}
+		return Response.notFound();
+	}
+
+	private Response routeContractRequests(HttpExchange exchange) {
+		String[] path = pathSegments(exchange);
+		requireMethod(exchange, "POST");
+		User user = authenticate(exchange);
+
+		// POST /contract-requests?propertyId=
+		if (path.length == 1) {
+			Long propertyId = parseId(parseQuery(exchange).get("propertyId"));
+			ContractRequest request = requestService.createRequest(user, propertyId);
+			return Response.created(json -> JsonEncoder.write(json, request));
+		}
+		// POST /contract-requests/{id}/approve, /reject
+		if (path.length == 3) {
+			Long requestId = parseId(path[1]);
+			ContractRequest request;
+			switch (path[2]) {
+				case "approve":
+					request = requestService.approveRequest(user, requestId);
+					break;
+				case "reject":
+					request = requestService.rejectRequest(user, requestId);
+					break;
+				default:
+					return Response.notFound();
+			}
+			return Response.ok(json -> JsonEncoder.write(json, request));
+		}
+		return Response.notFound();
+	}
+
+	private Response routeContracts(HttpExchange exchange) {
+		String[] path = pathSegments(exchange);
+		requireMethod(exchange, "POST");
+		User user = authenticate(exchange);
+
+		// POST /contracts/{requestId}/complete
+		if (path.length == 3 && path[2].equals("complete")) {
+			Long requestId = parseId(path[1]);
+			// 계약 완료는 요청을 보낸 임차인만 할 수 있다.
+			ContractRequest request = requestService.findContractRequestById(requestId);
+			if (!request.getRequesterId().equals(user.getId()))
+				throw new CustomException(ErrorCode.NO_AUTHORITY, "본인이 요청한 계약만 완료할 수 있습니다.");
+
+			Contract contract = contractService.completeContract(requestId);
+			return Response.ok(json -> JsonEncoder.write(json, contract));
+		}
+		return Response.notFound();
+	}
+
+	// ======================================= 요청 처리 =======================================
+	private void handle(HttpExchange exchange, Function<HttpExchange, Response> route) throws IOException {
+		Response response;
+		try (InputStream body = exchange.getRequestBody()) {
+			// keep-alive를 위해 요청 본문은 읽지 않더라도 끝까지 비운다.
+			body.transferTo(OutputStream.nullOutputStream());
+			// 컨텍스트는 접두사로 매칭되므로 /propertiesX 같은 경로는 직접 걸러낸다.
+			String[] path = pathSegments(exchange);
+			if (path.length == 0 || !exchange.getHttpContext().getPath().equals("/" + path[0]))
+				response = Response.notFound();
+			else
+				response = route.apply(exchange);
+		} catch (CustomException e) {
+			response = Response.error(e.getCode().status, e.getCode().name(), e.getMessage());
+		} catch (RuntimeException e) {
+			System.err.println("API 처리 중 오류가 발생했습니다: " + exchange.getRequestURI() + " - " + e.getMessage());
+			response = Response.error(500, "INTERNAL_ERROR", "요청 처리 중 오류가 발생했습니다.");
+		}
+
+		byte[] bytes = response.body;
+		exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+		exchange.sendResponseHeaders(response.status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	// 서명이 맞고 만료되지 않은 토큰의 사용자 (토큰 발급 뒤 삭제된 사용자는 거부)
+	private User authenticate(HttpExchange exchange) {
+		String header = exchange.getRequestHeaders().getFirst("Authorization");
+		if (header == null || !header.startsWith(BEARER_PREFIX))
+			throw new CustomException(ErrorCode.UNAUTHORIZED);
+		String email = tokens.verify(header.substring(BEARER_PREFIX.length()).trim())
+			.orElseThrow(() -> new CustomException(ErrorCode.UNAUTHORIZED));
+		return authService.login(email)
+			.orElseThrow(() -> new CustomException(ErrorCode.UNAUTHORIZED));
+	}
+
+	private void requireMethod(HttpExchange exchange, String method) {
+		if (!exchange.getRequestMethod().equalsIgnoreCase(method))
+			throw new CustomException(ErrorCode.METHOD_NOT_ALLOWED, method + " 요청만 허용됩니다.");
+	}
+
+	// "/contract-requests/3/approve/" -> ["contract-requests", "3", "approve"]
+	private String[] pathSegments(HttpExchange exchange) {
+		List<String> segments = new ArrayList<>();
+		for (String segment : exchange.getRequestURI().getPath().split("/")) {
+			if (!segment.isEmpty())
+				segments.add(segment);
+		}
+		return segments.toArray(new String[0]);
+	}
+
+	private Map<String, String> parseQuery(HttpExchange exchange) {
+		Map<String, String> params = new HashMap<>();
+		String query = exchange.getRequestURI().getRawQuery();
+		if (query == null || query.isEmpty())
+			return params;
+		for (String pair : query.split("&")) {
+			int eq = pair.indexOf('=');
+			if (eq <= 0)
+				continue;
+			String key = URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8);
+			String value = URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+			if (!value.isBlank())
+				params.put(key, value.trim());
+		}
+		return params;
+	}
+
+	private PropertyFilter parseFilter(Map<String, String> query) {
+		return PropertyFilter.builder()
+			.city(query.get("city"))
+			.district(query.get("district"))
+			.propertyTypes(parseEnums(query.get("propertyTypes"), PropertyType.class))
+			.dealTypes(parseEnums(query.get("dealTypes"), DealType.class))
+			.minPrice(parseLong(query.get("minPrice")))
+			.maxPrice(parseLong(query.get("maxPrice")))
+			.build();
+	}
+
+	private <E extends Enum<E>> List<E> parseEnums(String value, Class<E> type) {
+		if (value == null)
+			return null;
+		List<E> values = new ArrayList<>();
+		for (String name : value.split(",")) {
+			try {
+				values.add(Enum.valueOf(type, name.trim().toUpperCase()));
+			} catch (IllegalArgumentException e) {
+				throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "알 수 없는 값입니다: " + name);
+			}
+		}
+		return values;
+	}
+
+	private Long parseId(String value) {
+		Long id = parseLong(value);
+		if (id == null || id <= 0)
+			throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "ID가 올바르지 않습니다.");
+		return id;
+	}
+
+	private Long parseLong(String value) {
+		if (value == null)
+			return null;
+		try {
+			return Long.parseLong(value);
+		} catch (NumberFormatException e) {
+			throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "숫자가 아닙니다: " + value);
+		}
+	}
+
+	private int parseInt(String value, int defaultValue) {
+		Long parsed = parseLong(value);
+		if (parsed == null)
+			return defaultValue;
+		if (parsed > Integer.MAX_VALUE || parsed < Integer.MIN_VALUE)
+			throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "숫자 범위를 벗어났습니다: " + value);
+		return parsed.intValue();
+	}
+
+	// ======================================= 응답 =======================================
+	private static class Response {
+		private final int status;
+		private final byte[] body;
+
+		private Response(int status, byte[] body) {
+			this.status = status;
+			this.body = body;
+		}
+
+		private static Response ok(Consumer<JsonWriter> writer) {
+			return of(200, writer);
+		}
+
+		private static Response created(Consumer<JsonWriter> writer) {
+			return of(201, writer);
+		}
+
+		private static Response notFound() {
+			return error(404, "NOT_FOUND", "존재하지 않는 경로입니다.");
+		}
+
+		private static Response error(int status, String code, String message) {
+			return of(status, json -> JsonEncoder.writeError(json, code, message));
+		}
+
+		private static Response of(int status, Consumer<JsonWriter> writer) {
+			JsonWriter json = new JsonWriter();
+			writer.accept(json);
+			return new Response(status, json.toBytes());
+		}
+	}
+}
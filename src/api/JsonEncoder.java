@@ -0,0 +1,95 @@
+package api;
+
+import java.util.Map;
+
+import domain.Contract;
+import domain.ContractRequest;
+import domain.Property;
+import domain.enums.DealType;
+import domain.enums.PropertyType;
+import dto.PropertyFacets;
+import dto.PropertyPage;
+
+/**
+ * 도메인 객체를 API 응답 JSON으로 변환
+ */
+public class JsonEncoder {
+	private JsonEncoder() {
+	}
+
+	public static void write(JsonWriter json, Property property) {
+		json.beginObject()
+			.name("id").value(property.getId())
+			.name("ownerId").value(property.getOwnerId())
+			.name("city").value(property.getLocation().getCity())
+			.name("district").value(property.getLocation().getDistrict())
+			.name("deposit").value(property.getPrice().getDeposit())
+			.name("monthlyRent").value(property.getPrice().getMonthlyRent())
+			.name("propertyType").value(property.getPropertyType())
+			.name("dealType").value(property.getDealType())
+			.name("status").value(property.getStatus())
+			.name("version").value(property.getVersion())
+			.endObject();
+	}
+
+	public static void write(JsonWriter json, PropertyPage page) {
+		json.beginObject().name("content").beginArray();
+		for (Property property : page.getContent())
+			write(json, property);
+		json.endArray()
+			.name("nextCursor").value(page.getNextCursor())
+			.endObject();
+	}
+
+	public static void write(JsonWriter json, PropertyFacets facets) {
+		json.beginObject()
+			.name("total").value(facets.getTotal())
+			.name("propertyTypes").beginObject();
+		for (Map.Entry<PropertyType, Integer> entry : facets.getByPropertyType().entrySet())
+			json.name(entry.getKey().name()).value(entry.getValue());
+		json.endObject().name("dealTypes").beginObject();
+		for (Map.Entry<DealType, Integer> entry : facets.getByDealType().entrySet())
+			json.name(entry.getKey().name()).value(entry.getValue());
+		json.endObject().name("districts").beginObject();
+		for (Map.Entry<String, Integer> entry : facets.getByDistrict().entrySet())
+			json.name(entry.getKey()).value(entry.getValue());
+		json.endObject().name("priceBuckets").beginArray();
+		for (PropertyFacets.PriceBucket bucket : facets.getPriceBuckets()) {
+			json.beginObject().name("min").value(bucket.getMin()).name("max");
+			if (bucket.isUnbounded())
+				json.nullValue();
+			else
+				json.value(bucket.getMax());
+			json.name("count").value(bucket.getCount()).endObject();
+		}
+		json.endArray().endObject();
+	}
+
+	public static void write(JsonWriter json, ContractRequest request) {
+		json.beginObject()
+			.name("id").value(request.getId())
+			.name("requesterId").value(request.getRequesterId())
+			.name("propertyId").value(request.getPropertyId())
+			.name("status").value(request.getStatus())
+			.name("createdAt").value(request.getCreatedAt() == null ? null : request.getCreatedAt().toString())
+			.name("version").value(request.getVersion())
+			.endObject();
+	}
+
+	public static void write(JsonWriter json, Contract contract) {
+		json.beginObject()
+			.name("id").value(contract.getId())
+			.name("lessorId").value(contract.getLessorId())
+			.name("lesseeId").value(contract.getLesseeId())
+			.name("status").value(contract.getStatus())
+			.name("createdAt").value(contract.getCreatedAt() == null ? null : contract.getCreatedAt().toString())
+			.endObject();
+	}
+
+	public static void writeError(JsonWriter json, String code, String message) {
+		json.beginObject()
+			.name("error").value(code)
+			.name("message").value(message)
+			.endObject();
+	}
+}
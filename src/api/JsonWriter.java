@@ -0,0 +1,145 @@
+package api;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 응답용 JSON 문자열을 만드는 간단한 작성기
+ * - 요청마다 하나의 StringBuilder에 바로 이어 붙이므로 중간 객체(Map, 문자열 조각)를 만들지 않는다.
+ * - 쉼표는 직전에 값이 있었는지만 보고 자동으로 넣는다.
+ *
+ * 예) new JsonWriter().beginObject().name("id").value(1).endObject().toString() -> {"id":1}
+ */
+public class JsonWriter {
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	private final StringBuilder sb;
+	// 같은 객체/배열 안에서 다음 값 앞에 쉼표가 필요한지
+	private boolean needsComma = false;
+
+	public JsonWriter() {
+		this(256);
+	}
+
+	public JsonWriter(int capacity) {
+		this.sb = new StringBuilder(capacity);
+	}
+
+	public JsonWriter beginObject() {
+		separate();
+		sb.append('{');
+		needsComma = false;
+		return this;
+	}
+
+	public JsonWriter endObject() {
+		sb.append('}');
+		needsComma = true;
+		return this;
+	}
+
+	public JsonWriter beginArray() {
+		separate();
+		sb.append('[');
+		needsComma = false;
+		return this;
+	}
+
+	public JsonWriter endArray() {
+		sb.append(']');
+		needsComma = true;
+		return this;
+	}
+
+	// 객체의 키. 다음에 오는 값에는 쉼표를 붙이지 않는다.
+	public JsonWriter name(String name) {
+		separate();
+		appendString(name);
+		sb.append(':');
+		needsComma = false;
+		return this;
+	}
+
+	public JsonWriter value(String value) {
+		separate();
+		if (value == null)
+			sb.append("null");
+		else
+			appendString(value);
+		needsComma = true;
+		return this;
+	}
+
+	public JsonWriter value(long value) {
+		separate();
+		sb.append(value);
+		needsComma = true;
+		return this;
+	}
+
+	public JsonWriter value(Long value) {
+		return value == null ? nullValue() : value(value.longValue());
+	}
+
+	public JsonWriter value(boolean value) {
+		separate();
+		sb.append(value);
+		needsComma = true;
+		return this;
+	}
+
+	public JsonWriter value(Enum<?> value) {
+		return value == null ? nullValue() : value(value.name());
+	}
+
+	public JsonWriter nullValue() {
+		separate();
+		sb.append("null");
+		needsComma = true;
+		return this;
+	}
+
+	public byte[] toBytes() {
+		return sb.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Override
+	public String toString() {
+		return sb.toString();
+	}
+
+	private void separate() {
+		if (needsComma)
+			sb.append(',');
+	}
+
+	private void appendString(String value) {
+		sb.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '"':
+					sb.append("\\\"");
+					break;
+				case '\\':
+					sb.append("\\\\");
+					break;
+				case '\n':
+					sb.append("\\n");
+					break;
+				case '\r':
+					sb.append("\\r");
+					break;
+				case '\t':
+					sb.append("\\t");
+					break;
+				default:
+					if (c < 0x20) {
+						sb.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+					} else {
+						sb.append(c);
+					}
+			}
+		}
+		sb.append('"');
+	}
+}
@@ -0,0 +1,358 @@
+package config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 최소/최대 크기가 정해진 JDBC 커넥션 풀
+ * - getConnection()으로 빌린 커넥션은 close() 시 실제로 닫히지 않고 풀로 반환된다.
+ * - 오래 쉬고 있던 커넥션은 빌려줄 때 유효성을 검사하고, idleTimeout을 넘긴 커넥션은 주기적으로 정리한다.
+ * - 커넥션마다 PreparedStatement 캐시를 두어 같은 SQL을 다시 준비하지 않는다.
+ */
+public class ConnectionPool {
+	private final String url;
+	private final String username;
+	private final String password;
+	private final int minSize;
+	private final int maxSize;
+	private final long acquireTimeoutMillis;
+	private final long idleTimeoutMillis;
+	private final long validationIntervalMillis;
+	private final int statementCacheSize;
+
+	// 최근에 반환된 커넥션을 먼저 빌려주도록 앞쪽에서 꺼내고 앞쪽으로 넣는다 (LIFO)
+	private final LinkedBlockingDeque<PooledEntry> idleConnections = new LinkedBlockingDeque<>();
+	private final Semaphore permits;
+	private final ScheduledExecutorService evictor;
+
+	// 메트릭
+	private final AtomicInteger totalCount = new AtomicInteger();
+	private final AtomicInteger activeCount = new AtomicInteger();
+	private final AtomicLong acquireCount = new AtomicLong();
+	private final AtomicLong timeoutCount = new AtomicLong();
+	private final AtomicLong totalWaitNanos = new AtomicLong();
+	private final AtomicLong maxWaitNanos = new AtomicLong();
+	private final AtomicLong statementCacheHits = new AtomicLong();
+	private final AtomicLong statementCacheMisses = new AtomicLong();
+
+	private volatile boolean closed = false;
+
+	public ConnectionPool(String url, String username, String password, int minSize, int maxSize,
+		long acquireTimeoutMillis, long idleTimeoutMillis, long validationIntervalMillis, int statementCacheSize) {
+		if (minSize < 0 || maxSize <= 0 || minSize > maxSize)
+			throw new IllegalArgumentException("커넥션 풀 크기 설정이 올바르지 않습니다. (min=" + minSize + ", max=" + maxSize + ")");
+
+		this.url = url;
+		this.username = username;
+		this.password = password;
+		this.minSize = minSize;
+		this.maxSize = maxSize;
+		this.acquireTimeoutMillis = acquireTimeoutMillis;
+		this.idleTimeoutMillis = idleTimeoutMillis;
+		this.validationIntervalMillis = validationIntervalMillis;
+		this.statementCacheSize = statementCacheSize;
+		this.permits = new Semaphore(maxSize, true);
+
+		this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "connection-pool-evictor");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long period = Math.max(1000, idleTimeoutMillis / 2);
+		evictor.scheduleWithFixedDelay(this::maintain, 0, period, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 풀에서 커넥션을 빌린다. acquireTimeout 안에 빌리지 못하면 예외를 던진다.
+	 * @return close() 시 풀로 반환되는 커넥션
+	 */
+	public Connection getConnection() {
+		if (closed)
+			throw new RuntimeException("커넥션 풀이 이미 종료되었습니다.");
+
+		long start = System.nanoTime();
+		try {
+			if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+				timeoutCount.incrementAndGet();
+				throw new RuntimeException("커넥션 풀에서 커넥션을 얻지 못했습니다. (대기 시간 초과)");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("커넥션 대기 중 인터럽트가 발생했습니다.", e);
+		}
+
+		try {
+			PooledEntry entry = borrowIdle();
+			if (entry == null)
+				entry = createEntry();
+			recordWait(System.nanoTime() - start);
+			activeCount.incrementAndGet();
+			return entry.lease();
+		} catch (RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	// 유휴 커넥션 중 유효한 것을 하나 꺼낸다. 없으면 null
+	private PooledEntry borrowIdle() {
+		PooledEntry entry;
+		while ((entry = idleConnections.pollFirst()) != null) {
+			if (isUsable(entry))
+				return entry;
+			discard(entry);
+		}
+		return null;
+	}
+
+	private boolean isUsable(PooledEntry entry) {
+		try {
+			if (entry.physical.isClosed())
+				return false;
+			// 최근에 사용된 커넥션은 검증 쿼리 없이 바로 사용
+			if (System.currentTimeMillis() - entry.lastUsedAt < validationIntervalMillis)
+				return true;
+			return entry.physical.isValid(5);
+		} catch (SQLException e) {
+			return false;
+		}
+	}
+
+	private PooledEntry createEntry() {
+		try {
+			Connection physical = DriverManager.getConnection(url, username, password);
+			totalCount.incrementAndGet();
+			return new PooledEntry(physical);
+		} catch (SQLException e) {
+			throw new RuntimeException("데이터베이스 연결에 실패했습니다.", e);
+		}
+	}
+
+	// 빌려간 커넥션이 close() 되었을 때 호출된다.
+	private void release(PooledEntry entry) {
+		activeCount.decrementAndGet();
+		try {
+			if (closed || !resetState(entry)) {
+				discard(entry);
+				return;
+			}
+			entry.lastUsedAt = System.currentTimeMillis();
+			idleConnections.offerFirst(entry);
+		} finally {
+			permits.release();
+		}
+	}
+
+	// 다음 사용자가 깨끗한 상태의 커넥션을 받도록 트랜잭션/설정을 원래대로 돌린다.
+	private boolean resetState(PooledEntry entry) {
+		try {
+			Connection physical = entry.physical;
+			if (physical.isClosed())
+				return false;
+			if (!physical.getAutoCommit()) {
+				physical.rollback();
+				physical.setAutoCommit(true);
+			}
+			if (physical.isReadOnly())
+				physical.setReadOnly(false);
+			physical.clearWarnings();
+			return true;
+		} catch (SQLException e) {
+			return false;
+		}
+	}
+
+	private void discard(PooledEntry entry) {
+		totalCount.decrementAndGet();
+		entry.statementCache.closeAll();
+		try {
+			entry.physical.close();
+		} catch (SQLException e) {
+			// 이미 끊어진 커넥션은 무시
+		}
+	}
+
+	// idleTimeout을 넘긴 유휴 커넥션을 정리하고, 최소 개수만큼 커넥션을 미리 만들어 둔다.
+	private void maintain() {
+		if (closed)
+			return;
+
+		long cutoff = System.currentTimeMillis() - idleTimeoutMillis;
+		// 가장 오래 쉰 커넥션은 뒤쪽에 있다.
+		Iterator<PooledEntry> iterator = idleConnections.descendingIterator();
+		while (iterator.hasNext() && totalCount.get() > minSize) {
+			PooledEntry entry = iterator.next();
+			if (entry.lastUsedAt < cutoff && idleConnections.removeLastOccurrence(entry))
+				discard(entry);
+		}
+
+		try {
+			while (totalCount.get() < minSize && permits.tryAcquire()) {
+				try {
+					idleConnections.offerLast(createEntry());
+				} finally {
+					permits.release();
+				}
+			}
+		} catch (RuntimeException e) {
+			// DB가 아직 준비되지 않았으면 다음 주기에 다시 시도
+		}
+	}
+
+	private void recordWait(long waitNanos) {
+		acquireCount.incrementAndGet();
+		totalWaitNanos.addAndGet(waitNanos);
+		maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+	}
+
+	// 풀을 종료하고 모든 유휴 커넥션을 닫는다. 사용 중인 커넥션은 반환될 때 닫힌다.
+	public void close() {
+		closed = true;
+		evictor.shutdownNow();
+		PooledEntry entry;
+		while ((entry = idleConnections.pollFirst()) != null)
+			discard(entry);
+	}
+
+	// ======================================= 메트릭 =======================================
+	public int getActiveCount() {
+		return activeCount.get();
+	}
+
+	public int getIdleCount() {
+		return idleConnections.size();
+	}
+
+	public int getTotalCount() {
+		return totalCount.get();
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	public long getAcquireCount() {
+		return acquireCount.get();
+	}
+
+	public long getTimeoutCount() {
+		return timeoutCount.get();
+	}
+
+	// 커넥션을 얻기까지 기다린 평균 시간 (ms)
+	public double getAverageWaitMillis() {
+		long count = acquireCount.get();
+		return count == 0 ? 0 : totalWaitNanos.get() / (double)count / 1_000_000;
+	}
+
+	public double getMaxWaitMillis() {
+		return maxWaitNanos.get() / 1_000_000.0;
+	}
+
+	public long getStatementCacheHits() {
+		return statementCacheHits.get();
+	}
+
+	public long getStatementCacheMisses() {
+		return statementCacheMisses.get();
+	}
+
+	public double getStatementCacheHitRatio() {
+		long hits = statementCacheHits.get();
+		long total = hits + statementCacheMisses.get();
+		return total == 0 ? 0 : hits / (double)total;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("ConnectionPool[active=%d, idle=%d, total=%d/%d, acquired=%d, timeouts=%d, avgWait=%.3fms, maxWait=%.3fms, stmtCacheHitRatio=%.2f]",
+			getActiveCount(), getIdleCount(), getTotalCount(), maxSize, getAcquireCount(), getTimeoutCount(),
+			getAverageWaitMillis(), getMaxWaitMillis(), getStatementCacheHitRatio());
+	}
+
+	/**
+	 * 실제 커넥션 하나와 그 사용 정보를 담는 풀 내부 항목
+	 */
+	private class PooledEntry {
+		private final Connection physical;
+		private final StatementCache statementCache;
+		private volatile long lastUsedAt;
+
+		private PooledEntry(Connection physical) {
+			this.physical = physical;
+			this.statementCache = new StatementCache(physical, statementCacheSize, statementCacheHits,
+				statementCacheMisses);
+			this.lastUsedAt = System.currentTimeMillis();
+		}
+
+		// 사용자에게 빌려줄 논리 커넥션을 만든다. close()가 호출되면 풀로 반환된다.
+		private Connection lease() {
+			return (Connection)Proxy.newProxyInstance(
+				Connection.class.getClassLoader(),
+				new Class<?>[] {Connection.class},
+				new LeasedConnectionHandler(this));
+		}
+	}
+
+	private class LeasedConnectionHandler implements InvocationHandler {
+		private final PooledEntry entry;
+		private boolean returned = false;
+
+		private LeasedConnectionHandler(PooledEntry entry) {
+			this.entry = entry;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			switch (method.getName()) {
+				case "close":
+					if (!returned) {
+						returned = true;
+						release(entry);
+					}
+					return null;
+				case "isClosed":
+					return returned || entry.physical.isClosed();
+				case "equals":
+					return proxy == args[0];
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				case "toString":
+					return "PooledConnection[" + entry.physical + "]";
+			}
+
+			if (returned)
+				throw new SQLException("이미 풀로 반환된 커넥션입니다.");
+			if (isCacheablePrepare(method))
+				return entry.statementCache.prepare((String)args[0],
+					args.length == 2 ? (Integer)args[1] : Statement.NO_GENERATED_KEYS);
+			try {
+				return method.invoke(entry.physical, args);
+			} catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+		}
+
+		// prepareStatement(String), prepareStatement(String, int autoGeneratedKeys)만 캐시한다.
+		private boolean isCacheablePrepare(Method method) {
+			if (!method.getName().equals("prepareStatement"))
+				return false;
+			Class<?>[] types = method.getParameterTypes();
+			return types.length == 1 || (types.length == 2 && types[1] == int.class);
+		}
+	}
+}
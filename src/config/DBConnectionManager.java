@@ -1,24 +1,134 @@
 package config;
 
+import java.nio.file.Path;
 import java.sql.Connection;
-import java.sql.DriverManager;
-import java.sql.SQLException;
 
 public class DBConnectionManager {
 	private static final String DRIVER_CLASS_NAME = "com.mysql.cj.jdbc.Driver";
 
+	// 커넥션 풀 기본 설정 (환경 변수로 변경 가능)
+	private static final int DEFAULT_POOL_MIN_SIZE = 2;
+	private static final int DEFAULT_POOL_MAX_SIZE = 10;
+	private static final long DEFAULT_ACQUIRE_TIMEOUT_MILLIS = 5_000;
+	private static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 600_000;
+	private static final long DEFAULT_VALIDATION_INTERVAL_MILLIS = 30_000;
+	private static final int DEFAULT_STATEMENT_CACHE_SIZE = 64;
+	private static final long DEFAULT_SLOW_QUERY_THRESHOLD_MILLIS = 200;
+
+	// DB_URL에 지정하지 않았을 때 기본으로 붙이는 드라이버 옵션
+	// rewriteBatchedStatements: JDBC 배치 INSERT를 다중 행 INSERT 한 번으로 전송
+	// useCursorFetch: fetchSize가 지정된 조회는 서버 측 커서로 나누어 읽음
+	// useServerPrepStmts: 서버에서 한 번 파싱한 문장을 재사용 (StatementCache가 문장을 재사용할 때 다시 파싱하지 않음)
+	private static final String[] DEFAULT_URL_PROPERTIES = {
+		"rewriteBatchedStatements=true",
+		"useCursorFetch=true",
+		"useServerPrepStmts=true"
+	};
+
+	private static volatile ConnectionPool pool;
+	// SQL 실행 추적 (DB_TRACE_ENABLED=false면 null)
+	private static final QueryTracer TRACER = createTracer();
+
+	/**
+	 * 커넥션 풀에서 커넥션을 빌려온다.
+	 * 사용이 끝난 커넥션은 반드시 close() 해야 풀로 반환된다. (try-with-resources 사용)
+	 * 트랜잭션이 진행 중이면 해당 트랜잭션의 커넥션을 반환한다.
+	 */
 	public static Connection getConnection() {
-		String url = System.getenv("DB_URL");
-		String username = System.getenv("DB_USERNAME");
-		String password = System.getenv("DB_PASSWORD");
+		Connection transactional = TransactionManager.currentConnection();
+		Connection connection = transactional != null ? transactional : getPool().getConnection();
+		return TRACER != null ? TRACER.wrap(connection) : connection;
+	}
+
+	// SQL 형태별 실행 통계 (추적을 끈 경우 null)
+	public static QueryTracer getQueryTracer() {
+		return TRACER;
+	}
+
+	// 처음 사용할 때 커넥션 풀을 생성
+	public static ConnectionPool getPool() {
+		ConnectionPool current = pool;
+		if (current == null) {
+			synchronized (DBConnectionManager.class) {
+				current = pool;
+				if (current == null) {
+					current = createPool();
+					pool = current;
+				}
+			}
+		}
+		return current;
+	}
+
+	// 애플리케이션 종료 시 풀의 모든 커넥션을 닫는다.
+	public static void shutdown() {
+		synchronized (DBConnectionManager.class) {
+			if (pool != null) {
+				pool.close();
+				pool = null;
+			}
+		}
+	}
 
+	private static ConnectionPool createPool() {
 		try {
 			Class.forName(DRIVER_CLASS_NAME);
-			return DriverManager.getConnection(url, username, password);
 		} catch (ClassNotFoundException e) {
 			throw new RuntimeException("JDBC 드라이버를 찾지 못했습니다.");
-		} catch (SQLException e) {
-			throw new RuntimeException("데이터베이스 연결에 실패했습니다.");
+		}
+
+		return new ConnectionPool(
+			withDefaultProperties(System.getenv("DB_URL")),
+			System.getenv("DB_USERNAME"),
+			System.getenv("DB_PASSWORD"),
+			getIntEnv("DB_POOL_MIN_SIZE", DEFAULT_POOL_MIN_SIZE),
+			getIntEnv("DB_POOL_MAX_SIZE", DEFAULT_POOL_MAX_SIZE),
+			getLongEnv("DB_POOL_ACQUIRE_TIMEOUT_MS", DEFAULT_ACQUIRE_TIMEOUT_MILLIS),
+			getLongEnv("DB_POOL_IDLE_TIMEOUT_MS", DEFAULT_IDLE_TIMEOUT_MILLIS),
+			getLongEnv("DB_POOL_VALIDATION_INTERVAL_MS", DEFAULT_VALIDATION_INTERVAL_MILLIS),
+			getIntEnv("DB_STATEMENT_CACHE_SIZE", DEFAULT_STATEMENT_CACHE_SIZE)
+		);
+	}
+
+	/**
+	 * 환경 변수 설정으로 SQL 추적기를 만든다.
+	 * - DB_TRACE_ENABLED: false면 추적하지 않음 (기본 true)
+	 * - DB_SLOW_QUERY_THRESHOLD_MS: 느린 쿼리 기준 시간 (기본 200ms, 0이면 기록하지 않음)
+	 * - DB_SLOW_QUERY_LOG_FILE: 느린 쿼리 로그 파일 (생략 시 표준 에러)
+	 */
+	private static QueryTracer createTracer() {
+		if ("false".equalsIgnoreCase(System.getenv("DB_TRACE_ENABLED")))
+			return null;
+		String logFile = System.getenv("DB_SLOW_QUERY_LOG_FILE");
+		return new QueryTracer(getLongEnv("DB_SLOW_QUERY_THRESHOLD_MS", DEFAULT_SLOW_QUERY_THRESHOLD_MILLIS),
+			logFile == null || logFile.isBlank() ? null : Path.of(logFile.trim()));
+	}
+
+	private static String withDefaultProperties(String url) {
+		if (url == null)
+			return null;
+		StringBuilder sb = new StringBuilder(url);
+		for (String property : DEFAULT_URL_PROPERTIES) {
+			String key = property.substring(0, property.indexOf('=') + 1);
+			if (url.contains(key))
+				continue;
+			sb.append(sb.indexOf("?") < 0 ? '?' : '&').append(property);
+		}
+		return sb.toString();
+	}
+
+	private static int getIntEnv(String name, int defaultValue) {
+		return (int)getLongEnv(name, defaultValue);
+	}
+
+	private static long getLongEnv(String name, long defaultValue) {
+		String value = System.getenv(name);
+		if (value == null || value.isBlank())
+			return defaultValue;
+		try {
+			return Long.parseLong(value.trim());
+		} catch (NumberFormatException e) {
+			throw new RuntimeException("환경 변수 " + name + "의 값이 올바르지 않습니다: " + value);
 		}
 	}
 }
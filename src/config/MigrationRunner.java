@@ -0,0 +1,256 @@
+package config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 버전별 스키마 마이그레이션 실행기
+ * - 클래스패스의 db/migration 디렉토리에서 V{버전}__{설명}.sql 스크립트를 버전 순서대로 실행한다.
+ * - 적용한 스크립트는 schema_migrations 테이블에 체크섬과 함께 기록하고, 이미 적용된 스크립트는 건너뛴다.
+ * - 적용된 스크립트의 내용이 바뀌면 체크섬이 달라지므로 실행을 중단한다.
+ * - 여러 노드가 동시에 시작해도 MySQL 네임드 락으로 한 노드만 마이그레이션을 수행한다.
+ */
+public class MigrationRunner {
+	private static final String DEFAULT_LOCATION = "db/migration";
+	private static final Pattern SCRIPT_NAME = Pattern.compile("V(\\d+)__(.+)\\.sql");
+	private static final String LOCK_NAME = "schema_migrations";
+	private static final int LOCK_TIMEOUT_SECONDS = 60;
+
+	private final String location;
+
+	public MigrationRunner() {
+		this(DEFAULT_LOCATION);
+	}
+
+	public MigrationRunner(String location) {
+		this.location = location;
+	}
+
+	/**
+	 * 아직 적용되지 않은 마이그레이션을 순서대로 실행
+	 * @return 이번에 새로 적용한 마이그레이션 개수
+	 */
+	public int migrate() {
+		List<Migration> migrations = loadMigrations();
+
+		try (Connection conn = DBConnectionManager.getConnection()) {
+			acquireLock(conn);
+			try {
+				createHistoryTable(conn);
+				Map<Integer, String> applied = findAppliedChecksums(conn);
+
+				int count = 0;
+				for (Migration migration : migrations) {
+					String checksum = applied.get(migration.version);
+					if (checksum != null) {
+						if (!checksum.equals(migration.checksum))
+							throw new RuntimeException("이미 적용된 마이그레이션 V" + migration.version + "의 내용이 변경되었습니다.");
+						continue;
+					}
+					apply(conn, migration);
+					count++;
+				}
+				return count;
+			} finally {
+				releaseLock(conn);
+			}
+		} catch (SQLException e) {
+			throw new RuntimeException("스키마 마이그레이션에 실패했습니다.", e);
+		}
+	}
+
+	private void apply(Connection conn, Migration migration) throws SQLException {
+		// MySQL의 DDL은 자동 커밋되므로 문장 단위로 실행한 뒤 이력을 남긴다.
+		try (Statement stmt = conn.createStatement()) {
+			for (String sql : migration.statements)
+				stmt.execute(sql);
+		} catch (SQLException e) {
+			throw new SQLException("마이그레이션 V" + migration.version + " 실행에 실패했습니다.", e);
+		}
+
+		String sql = "INSERT INTO schema_migrations (version, description, checksum) VALUES (?, ?, ?)";
+		try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+			stmt.setInt(1, migration.version);
+			stmt.setString(2, migration.description);
+			stmt.setString(3, migration.checksum);
+			stmt.executeUpdate();
+		}
+		System.out.println("✅ 마이그레이션 적용: V" + migration.version + " " + migration.description);
+	}
+
+	private void createHistoryTable(Connection conn) throws SQLException {
+		String sql = "CREATE TABLE IF NOT EXISTS schema_migrations (" +
+			"version INT PRIMARY KEY, " +
+			"description VARCHAR(200) NOT NULL, " +
+			"checksum CHAR(64) NOT NULL, " +
+			"applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)";
+		try (Statement stmt = conn.createStatement()) {
+			stmt.execute(sql);
+		}
+	}
+
+	private Map<Integer, String> findAppliedChecksums(Connection conn) throws SQLException {
+		Map<Integer, String> applied = new HashMap<>();
+		try (Statement stmt = conn.createStatement();
+			 ResultSet rs = stmt.executeQuery("SELECT version, checksum FROM schema_migrations")) {
+			while (rs.next())
+				applied.put(rs.getInt("version"), rs.getString("checksum"));
+		}
+		return applied;
+	}
+
+	private void acquireLock(Connection conn) throws SQLException {
+		try (PreparedStatement stmt = conn.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+			stmt.setString(1, LOCK_NAME);
+			stmt.setInt(2, LOCK_TIMEOUT_SECONDS);
+			try (ResultSet rs = stmt.executeQuery()) {
+				if (!rs.next() || rs.getInt(1) != 1)
+					throw new RuntimeException("다른 노드의 마이그레이션이 끝나기를 기다리다 시간이 초과되었습니다.");
+			}
+		}
+	}
+
+	private void releaseLock(Connection conn) {
+		try (PreparedStatement stmt = conn.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+			stmt.setString(1, LOCK_NAME);
+			stmt.executeQuery().close();
+		} catch (SQLException e) {
+			// 커넥션이 끊기면 락도 함께 해제된다.
+		}
+	}
+
+	// ======================================= 스크립트 로딩 =======================================
+	private List<Migration> loadMigrations() {
+		List<Migration> migrations = new ArrayList<>();
+		for (String name : listScriptNames()) {
+			Matcher matcher = SCRIPT_NAME.matcher(name);
+			if (!matcher.matches())
+				continue;
+			String content = readScript(location + "/" + name);
+			migrations.add(new Migration(
+				Integer.parseInt(matcher.group(1)),
+				matcher.group(2).replace('_', ' '),
+				sha256(content),
+				splitStatements(content)
+			));
+		}
+
+		migrations.sort((a, b) -> Integer.compare(a.version, b.version));
+		for (int i = 1; i < migrations.size(); i++) {
+			if (migrations.get(i).version == migrations.get(i - 1).version)
+				throw new RuntimeException("마이그레이션 버전이 중복되었습니다: V" + migrations.get(i).version);
+		}
+		return migrations;
+	}
+
+	// 디렉토리(개발/도커 실행)와 jar 배포를 모두 지원
+	private List<String> listScriptNames() {
+		URL url = getClass().getClassLoader().getResource(location);
+		if (url == null)
+			return new ArrayList<>();
+
+		List<String> names = new ArrayList<>();
+		try {
+			if (url.getProtocol().equals("jar")) {
+				JarURLConnection connection = (JarURLConnection)url.openConnection();
+				connection.setUseCaches(false);
+				try (JarFile jar = connection.getJarFile()) {
+					Enumeration<JarEntry> entries = jar.entries();
+					while (entries.hasMoreElements()) {
+						String entryName = entries.nextElement().getName();
+						if (entryName.startsWith(location + "/") && !entryName.endsWith("/"))
+							names.add(entryName.substring(location.length() + 1));
+					}
+				}
+			} else {
+				Path directory = Paths.get(url.toURI());
+				try (Stream<Path> files = Files.list(directory)) {
+					files.forEach(file -> names.add(file.getFileName().toString()));
+				}
+			}
+		} catch (IOException | URISyntaxException e) {
+			throw new RuntimeException("마이그레이션 스크립트 목록을 읽지 못했습니다.", e);
+		}
+		return names;
+	}
+
+	private String readScript(String path) {
+		try (InputStream in = getClass().getClassLoader().getResourceAsStream(path)) {
+			if (in == null)
+				throw new RuntimeException("마이그레이션 스크립트를 찾지 못했습니다: " + path);
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new RuntimeException("마이그레이션 스크립트를 읽지 못했습니다: " + path, e);
+		}
+	}
+
+	// 주석(--)을 제거하고 줄 끝의 세미콜론을 기준으로 문장을 나눈다.
+	private List<String> splitStatements(String content) {
+		List<String> statements = new ArrayList<>();
+		StringBuilder current = new StringBuilder();
+		for (String line : content.split("\\R")) {
+			String trimmed = line.trim();
+			if (trimmed.isEmpty() || trimmed.startsWith("--"))
+				continue;
+			current.append(line).append('\n');
+			if (trimmed.endsWith(";")) {
+				String sql = current.toString().trim();
+				statements.add(sql.substring(0, sql.length() - 1));
+				current.setLength(0);
+			}
+		}
+		if (!current.toString().isBlank())
+			statements.add(current.toString().trim());
+		return statements;
+	}
+
+	private String sha256(String content) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+			StringBuilder sb = new StringBuilder();
+			for (byte b : hash)
+				sb.append(String.format("%02x", b));
+			return sb.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static class Migration {
+		private final int version;
+		private final String description;
+		private final String checksum;
+		private final List<String> statements;
+
+		private Migration(int version, String description, String checksum, List<String> statements) {
+			this.version = version;
+			this.description = description;
+			this.checksum = checksum;
+			this.statements = statements;
+		}
+	}
+}
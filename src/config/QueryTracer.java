@@ -0,0 +1,325 @@
+package config;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import metrics.LatencyHistogram;
+
+/**
+ * DBConnectionManager가 빌려주는 커넥션을 감싸 SQL 실행을 추적한다.
+ * - PreparedStatement의 executeQuery/executeUpdate/executeBatch/execute 시간을 SQL 형태별로 모은다.
+ *   (IN (?, ?, ?)처럼 개수만 다른 목록은 IN (?...)로 합친다)
+ * - 조회는 ResultSet을 닫을 때까지(행을 모두 읽을 때까지)의 시간과 읽은 행 수를 기록한다.
+ * - slowThreshold를 넘긴 실행은 호출한 Repository 메서드, 파라미터 수, 행 수와 함께 느린 쿼리 로그에 남긴다.
+ * 마이그레이션 등 Statement로 직접 실행하는 SQL은 추적하지 않는다.
+ */
+public class QueryTracer {
+	private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+	// SQL 문자열 -> 형태 변환 결과를 기억해 둘 최대 개수 (넘으면 매번 변환)
+	private static final int MAX_CACHED_SQL = 10_000;
+	private static final int MAX_LOGGED_SQL_LENGTH = 2_000;
+
+	private final long slowThresholdNanos;
+	private final Path slowLogFile;
+	private final Map<String, QueryStats> statsBySql = new ConcurrentHashMap<>();
+	private final Map<String, QueryStats> statsByShape = new ConcurrentHashMap<>();
+
+	/**
+	 * @param slowThresholdMillis 이 시간(ms) 이상 걸린 실행을 느린 쿼리로 기록 (0 이하이면 기록하지 않음)
+	 * @param slowLogFile 느린 쿼리 로그 파일 (null이면 표준 에러로 출력)
+	 */
+	public QueryTracer(long slowThresholdMillis, Path slowLogFile) {
+		this.slowThresholdNanos = slowThresholdMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis)
+			: Long.MAX_VALUE;
+		this.slowLogFile = slowLogFile;
+	}
+
+	Connection wrap(Connection connection) {
+		return (Connection)Proxy.newProxyInstance(
+			Connection.class.getClassLoader(),
+			new Class<?>[] {Connection.class},
+			new TracedConnectionHandler(connection));
+	}
+
+	/**
+	 * 전체 실행 시간이 긴 SQL 형태부터 보여준다. (시간 단위: ms)
+	 * @param limit 최대 출력 개수
+	 */
+	public String report(int limit) {
+		List<QueryStats> all = new ArrayList<>(statsByShape.values());
+		all.sort((a, b) -> Double.compare(b.getTotalNanos(), a.getTotalNanos()));
+
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format("%9s %7s %9s %9s %9s %9s %9s  %s%n",
+			"calls", "errors", "avgRows", "total", "mean", "p99", "max", "sql"));
+		for (QueryStats stats : all.subList(0, Math.min(limit, all.size()))) {
+			LatencyHistogram histogram = stats.histogram;
+			long calls = histogram.getCount();
+			sb.append(String.format("%9d %7d %9.1f %9.1f %9.3f %9.3f %9.3f  %s%n",
+				calls, stats.errors.sum(), calls == 0 ? 0 : stats.rows.sum() / (double)calls,
+				stats.getTotalNanos() / 1_000_000, histogram.getMeanNanos() / 1_000_000,
+				histogram.getPercentileNanos(99) / 1_000_000.0, histogram.getMaxNanos() / 1_000_000.0,
+				stats.shape));
+		}
+		return sb.toString();
+	}
+
+	private void record(String sql, long elapsedNanos, long rows, int parameterCount, int batchSize,
+		boolean failed) {
+		QueryStats stats = statsFor(sql);
+		stats.histogram.record(elapsedNanos);
+		if (rows > 0)
+			stats.rows.add(rows);
+		if (failed)
+			stats.errors.increment();
+		if (elapsedNanos >= slowThresholdNanos)
+			logSlowQuery(sql, elapsedNanos, rows, parameterCount, batchSize, failed);
+	}
+
+	private QueryStats statsFor(String sql) {
+		QueryStats stats = statsBySql.get(sql);
+		if (stats != null)
+			return stats;
+		stats = statsByShape.computeIfAbsent(shapeOf(sql), QueryStats::new);
+		if (statsBySql.size() < MAX_CACHED_SQL)
+			statsBySql.put(sql, stats);
+		return stats;
+	}
+
+	static String shapeOf(String sql) {
+		return IN_LIST.matcher(sql.trim().replaceAll("\\s+", " ")).replaceAll("(?...)");
+	}
+
+	private void logSlowQuery(String sql, long elapsedNanos, long rows, int parameterCount, int batchSize,
+		boolean failed) {
+		String text = sql.length() > MAX_LOGGED_SQL_LENGTH ? sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "..." : sql;
+		String line = String.format("%s [slow-query] %.3fms rows=%d params=%d%s%s caller=%s sql=%s",
+			LocalDateTime.now(), elapsedNanos / 1_000_000.0, rows, parameterCount,
+			batchSize > 0 ? " batch=" + batchSize : "", failed ? " failed" : "", findCaller(),
+			text.replaceAll("\\s+", " "));
+		if (slowLogFile == null) {
+			System.err.println(line);
+			return;
+		}
+		synchronized (this) {
+			try {
+				Files.writeString(slowLogFile, line + System.lineSeparator(), StandardCharsets.UTF_8,
+					StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+			} catch (IOException e) {
+				System.err.println(line);
+			}
+		}
+	}
+
+	// 호출 스택에서 가장 가까운 Repository 메서드 (느린 쿼리일 때만 찾는다)
+	private static String findCaller() {
+		return StackWalker.getInstance().walk(frames -> frames
+			.filter(frame -> frame.getClassName().startsWith("repository.")
+				&& !frame.getClassName().startsWith("repository.Timed"))
+			.findFirst()
+			.map(frame -> frame.getClassName() + "." + frame.getMethodName()
+				+ "(" + frame.getFileName() + ":" + frame.getLineNumber() + ")")
+			.orElse("unknown"));
+	}
+
+	private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+	// SQL 형태 하나의 누적 통계
+	private static class QueryStats {
+		private final String shape;
+		private final LatencyHistogram histogram = new LatencyHistogram();
+		private final LongAdder rows = new LongAdder();
+		private final LongAdder errors = new LongAdder();
+
+		private QueryStats(String shape) {
+			this.shape = shape;
+		}
+
+		private double getTotalNanos() {
+			return histogram.getMeanNanos() * histogram.getCount();
+		}
+	}
+
+	private class TracedConnectionHandler implements InvocationHandler {
+		private final Connection delegate;
+
+		private TracedConnectionHandler(Connection delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			switch (method.getName()) {
+				case "equals":
+					return proxy == args[0];
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				case "toString":
+					return "TracedConnection[" + delegate + "]";
+			}
+			Object result = QueryTracer.invoke(method, delegate, args);
+			if (method.getName().equals("prepareStatement"))
+				return Proxy.newProxyInstance(
+					PreparedStatement.class.getClassLoader(),
+					new Class<?>[] {PreparedStatement.class},
+					new TracedStatementHandler((PreparedStatement)result, (String)args[0]));
+			return result;
+		}
+	}
+
+	// 한 번 준비한 문장의 실행을 추적한다. (커넥션처럼 한 스레드만 사용)
+	private class TracedStatementHandler implements InvocationHandler {
+		private final PreparedStatement delegate;
+		private final String sql;
+		private int parameterCount;
+		private int batchSize;
+
+		private TracedStatementHandler(PreparedStatement delegate, String sql) {
+			this.delegate = delegate;
+			this.sql = sql;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String name = method.getName();
+			switch (name) {
+				case "equals":
+					return proxy == args[0];
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				case "toString":
+					return "TracedStatement[" + delegate + "]";
+				case "addBatch":
+					batchSize++;
+					break;
+				case "clearBatch":
+					batchSize = 0;
+					break;
+				case "executeQuery":
+					return executeQuery(method, args);
+				case "executeUpdate":
+				case "executeLargeUpdate":
+				case "executeBatch":
+				case "executeLargeBatch":
+				case "execute":
+					return executeUpdate(method, args);
+			}
+			// setLong(1, ...)처럼 순번으로 바인딩하는 메서드에서 파라미터 수를 센다.
+			if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer)
+				parameterCount = Math.max(parameterCount, (Integer)args[0]);
+			return QueryTracer.invoke(method, delegate, args);
+		}
+
+		private Object executeQuery(Method method, Object[] args) throws Throwable {
+			long start = System.nanoTime();
+			ResultSet resultSet;
+			try {
+				resultSet = (ResultSet)QueryTracer.invoke(method, delegate, args);
+			} catch (Throwable e) {
+				record(sql, System.nanoTime() - start, 0, parameterCount, 0, true);
+				throw e;
+			}
+			return Proxy.newProxyInstance(
+				ResultSet.class.getClassLoader(),
+				new Class<?>[] {ResultSet.class},
+				new TracedResultSetHandler(resultSet, sql, start, parameterCount));
+		}
+
+		private Object executeUpdate(Method method, Object[] args) throws Throwable {
+			long start = System.nanoTime();
+			int batch = method.getName().contains("Batch") ? batchSize : 0;
+			Object result;
+			try {
+				result = QueryTracer.invoke(method, delegate, args);
+			} catch (Throwable e) {
+				record(sql, System.nanoTime() - start, 0, parameterCount, batch, true);
+				throw e;
+			}
+			if (batch > 0)
+				batchSize = 0;
+			record(sql, System.nanoTime() - start, affectedRows(result), parameterCount, batch, false);
+			return result;
+		}
+
+		private long affectedRows(Object result) {
+			if (result instanceof Integer)
+				return (Integer)result;
+			if (result instanceof Long)
+				return (Long)result;
+			long total = 0;
+			if (result instanceof int[]) {
+				for (int count : (int[])result)
+					total += Math.max(0, count);
+			} else if (result instanceof long[]) {
+				for (long count : (long[])result)
+					total += Math.max(0, count);
+			}
+			return total;
+		}
+	}
+
+	// 읽은 행 수를 세다가 닫힐 때 실행부터 닫힐 때까지의 시간을 기록한다.
+	private class TracedResultSetHandler implements InvocationHandler {
+		private final ResultSet delegate;
+		private final String sql;
+		private final long startNanos;
+		private final int parameterCount;
+		private long rows;
+		private boolean recorded;
+
+		private TracedResultSetHandler(ResultSet delegate, String sql, long startNanos, int parameterCount) {
+			this.delegate = delegate;
+			this.sql = sql;
+			this.startNanos = startNanos;
+			this.parameterCount = parameterCount;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			switch (method.getName()) {
+				case "equals":
+					return proxy == args[0];
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				case "toString":
+					return "TracedResultSet[" + delegate + "]";
+				case "next":
+					boolean hasNext = (Boolean)QueryTracer.invoke(method, delegate, args);
+					if (hasNext)
+						rows++;
+					return hasNext;
+				case "close":
+					if (!recorded) {
+						recorded = true;
+						record(sql, System.nanoTime() - startNanos, rows, parameterCount, 0, false);
+					}
+					break;
+			}
+			return QueryTracer.invoke(method, delegate, args);
+		}
+	}
+}
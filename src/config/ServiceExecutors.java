@@ -0,0 +1,106 @@
+package config;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 서비스(Async*Service)가 작업을 실행할 Executor를 만든다.
+ * - 가상 스레드를 지원하는 JDK(21+)에서는 작업마다 가상 스레드를 사용하여 DB 대기 중에도 플랫폼 스레드를 점유하지 않는다.
+ * - 지원하지 않는 JDK(현재 도커 이미지의 17 포함)에서는 크기가 정해진 플랫폼 스레드 풀을 사용한다.
+ * - ASYNC_EXECUTOR 환경 변수로 virtual / platform 중 하나를 강제할 수 있다.
+ */
+public class ServiceExecutors {
+	private static final int DEFAULT_PLATFORM_THREADS = 32;
+
+	private static volatile ExecutorService shared;
+
+	// 애플리케이션 전체에서 함께 쓰는 기본 Executor (처음 사용할 때 생성)
+	public static ExecutorService getDefault() {
+		ExecutorService current = shared;
+		if (current == null) {
+			synchronized (ServiceExecutors.class) {
+				current = shared;
+				if (current == null) {
+					current = create();
+					shared = current;
+				}
+			}
+		}
+		return current;
+	}
+
+	// 애플리케이션 종료 시 실행 중인 작업이 끝나기를 잠시 기다린 뒤 정리한다.
+	public static void shutdown() {
+		synchronized (ServiceExecutors.class) {
+			if (shared == null)
+				return;
+			shared.shutdown();
+			try {
+				if (!shared.awaitTermination(5, TimeUnit.SECONDS))
+					shared.shutdownNow();
+			} catch (InterruptedException e) {
+				shared.shutdownNow();
+				Thread.currentThread().interrupt();
+			}
+			shared = null;
+		}
+	}
+
+	/**
+	 * 환경 변수 설정에 따라 새 Executor를 만든다.
+	 * - ASYNC_EXECUTOR: virtual(기본) 또는 platform
+	 * - ASYNC_EXECUTOR_THREADS: 플랫폼 스레드 풀 크기 (기본 32)
+	 */
+	public static ExecutorService create() {
+		String type = System.getenv("ASYNC_EXECUTOR");
+		if (type == null || type.isBlank() || type.equalsIgnoreCase("virtual")) {
+			ExecutorService virtual = newVirtualThreadExecutor();
+			if (virtual != null)
+				return virtual;
+		} else if (!type.equalsIgnoreCase("platform")) {
+			throw new RuntimeException("환경 변수 ASYNC_EXECUTOR의 값이 올바르지 않습니다: " + type);
+		}
+		return newPlatformThreadExecutor(getThreadsEnv());
+	}
+
+	/**
+	 * 작업마다 가상 스레드를 만드는 Executor
+	 * 17에서도 컴파일되도록 리플렉션으로 호출한다.
+	 * @return 가상 스레드를 지원하지 않는 JDK면 null
+	 */
+	public static ExecutorService newVirtualThreadExecutor() {
+		try {
+			Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService)factory.invoke(null);
+		} catch (ReflectiveOperationException e) {
+			return null;
+		}
+	}
+
+	// 데몬 플랫폼 스레드로 구성된 고정 크기 풀
+	public static ExecutorService newPlatformThreadExecutor(int threads) {
+		AtomicInteger sequence = new AtomicInteger();
+		return Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "service-worker-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	private static int getThreadsEnv() {
+		String value = System.getenv("ASYNC_EXECUTOR_THREADS");
+		if (value == null || value.isBlank())
+			return DEFAULT_PLATFORM_THREADS;
+		try {
+			int threads = Integer.parseInt(value.trim());
+			if (threads <= 0)
+				throw new NumberFormatException();
+			return threads;
+		} catch (NumberFormatException e) {
+			throw new RuntimeException("환경 변수 ASYNC_EXECUTOR_THREADS의 값이 올바르지 않습니다: " + value);
+		}
+	}
+}
@@ -0,0 +1,185 @@
+package config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 풀링된 커넥션 하나에 묶인 PreparedStatement 캐시
+ * - SQL 문자열(+ 생성 키 반환 여부)을 키로 사용하고, 가장 오래 사용되지 않은 문장부터 제거한다. (LRU)
+ * - 빌려준 문장은 close() 시 실제로 닫히지 않고 파라미터와 fetchSize 등의 설정을 처음 상태로 되돌린 뒤 캐시로 돌아온다.
+ * - 커넥션은 한 번에 한 스레드만 사용하므로 동기화하지 않는다.
+ */
+class StatementCache {
+	private final Connection physical;
+	private final int maxSize;
+	private final AtomicLong hitCount;
+	private final AtomicLong missCount;
+	private final Map<String, CachedStatement> statements;
+
+	StatementCache(Connection physical, int maxSize, AtomicLong hitCount, AtomicLong missCount) {
+		this.physical = physical;
+		this.maxSize = maxSize;
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+				if (size() <= StatementCache.this.maxSize)
+					return false;
+				eldest.getValue().evict();
+				return true;
+			}
+		};
+	}
+
+	PreparedStatement prepare(String sql, int autoGeneratedKeys) throws SQLException {
+		if (maxSize <= 0) {
+			missCount.incrementAndGet();
+			return physical.prepareStatement(sql, autoGeneratedKeys);
+		}
+
+		String key = autoGeneratedKeys == Statement.RETURN_GENERATED_KEYS ? "K:" + sql : "N:" + sql;
+		CachedStatement cached = statements.get(key);
+		if (cached != null && !cached.inUse && !cached.delegate.isClosed()) {
+			hitCount.incrementAndGet();
+			return cached.lease();
+		}
+
+		missCount.incrementAndGet();
+		PreparedStatement delegate = physical.prepareStatement(sql, autoGeneratedKeys);
+		// 같은 SQL이 이미 사용 중이면 (중첩 사용) 캐시하지 않고 그대로 돌려준다.
+		if (cached != null && cached.inUse)
+			return delegate;
+		if (cached != null)
+			statements.remove(key);
+
+		CachedStatement created = new CachedStatement(key, delegate);
+		statements.put(key, created);
+		return created.lease();
+	}
+
+	void closeAll() {
+		List<CachedStatement> all = new ArrayList<>(statements.values());
+		statements.clear();
+		for (CachedStatement cached : all)
+			cached.evict();
+	}
+
+	int size() {
+		return statements.size();
+	}
+
+	private class CachedStatement {
+		private final String key;
+		private final PreparedStatement delegate;
+		// 만들었을 때의 설정 (빌려간 쪽에서 바꾼 값이 다음 사용에 남지 않도록 반환 시 되돌린다)
+		private final int defaultFetchSize;
+		private final int defaultMaxRows;
+		private final int defaultQueryTimeout;
+		private boolean inUse = false;
+		private boolean evicted = false;
+
+		private CachedStatement(String key, PreparedStatement delegate) throws SQLException {
+			this.key = key;
+			this.delegate = delegate;
+			this.defaultFetchSize = delegate.getFetchSize();
+			this.defaultMaxRows = delegate.getMaxRows();
+			this.defaultQueryTimeout = delegate.getQueryTimeout();
+		}
+
+		private PreparedStatement lease() {
+			inUse = true;
+			return (PreparedStatement)Proxy.newProxyInstance(
+				PreparedStatement.class.getClassLoader(),
+				new Class<?>[] {PreparedStatement.class},
+				new LeasedStatementHandler(this));
+		}
+
+		// 캐시에서 밀려난 문장은 사용 중이 아니면 바로 닫고, 사용 중이면 반환될 때 닫는다.
+		private void evict() {
+			evicted = true;
+			if (!inUse)
+				closeQuietly();
+		}
+
+		private void giveBack() {
+			inUse = false;
+			if (evicted) {
+				closeQuietly();
+				return;
+			}
+			try {
+				delegate.clearParameters();
+				delegate.clearBatch();
+				delegate.clearWarnings();
+				// 빌려간 쪽에서 바꾼 조회 설정이 같은 문장을 재사용하는 다음 조회에 남지 않도록 되돌린다.
+				if (delegate.getFetchSize() != defaultFetchSize)
+					delegate.setFetchSize(defaultFetchSize);
+				if (delegate.getMaxRows() != defaultMaxRows)
+					delegate.setMaxRows(defaultMaxRows);
+				if (delegate.getQueryTimeout() != defaultQueryTimeout)
+					delegate.setQueryTimeout(defaultQueryTimeout);
+			} catch (SQLException e) {
+				statements.remove(key, this);
+				closeQuietly();
+			}
+		}
+
+		private void closeQuietly() {
+			try {
+				delegate.close();
+			} catch (SQLException e) {
+				// 이미 닫힌 문장은 무시
+			}
+		}
+	}
+
+	// 한 번 빌려줄 때마다 새로 만들어지는 핸들러 (이전에 반환된 프록시가 다시 사용되는 것을 막는다)
+	private static class LeasedStatementHandler implements InvocationHandler {
+		private final CachedStatement cached;
+		private boolean returned = false;
+
+		private LeasedStatementHandler(CachedStatement cached) {
+			this.cached = cached;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			switch (method.getName()) {
+				case "close":
+					if (!returned) {
+						returned = true;
+						cached.giveBack();
+					}
+					return null;
+				case "isClosed":
+					return returned || cached.delegate.isClosed();
+				case "equals":
+					return proxy == args[0];
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				case "toString":
+					return "CachedStatement[" + cached.delegate + "]";
+			}
+
+			if (returned)
+				throw new SQLException("이미 반환된 PreparedStatement입니다.");
+			try {
+				return method.invoke(cached.delegate, args);
+			} catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+		}
+	}
+}
@@ -0,0 +1,131 @@
+package config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 여러 Repository 호출을 하나의 커넥션, 하나의 트랜잭션으로 묶어 실행한다.
+ * - 트랜잭션 안에서 DBConnectionManager.getConnection()을 호출하면 현재 스레드의 트랜잭션 커넥션이 반환된다.
+ * - 작업이 정상적으로 끝나면 한 번만 커밋하고, 예외가 발생하면 롤백한 뒤 예외를 그대로 던진다.
+ * - 이미 트랜잭션이 진행 중이면 새로 시작하지 않고 기존 트랜잭션에 참여한다.
+ * - 캐시 무효화처럼 트랜잭션이 끝난 뒤에 해야 하는 작업은 runAfterCompletion()으로 등록한다.
+ */
+public class TransactionManager {
+	private static final ThreadLocal<TransactionContext> CURRENT = new ThreadLocal<>();
+
+	public static <T> T execute(Supplier<T> work) {
+		// 이미 진행 중인 트랜잭션이 있으면 그대로 참여
+		if (CURRENT.get() != null)
+			return work.get();
+
+		Connection connection = DBConnectionManager.getPool().getConnection();
+		TransactionContext context = new TransactionContext(connection);
+		try {
+			connection.setAutoCommit(false);
+			CURRENT.set(context);
+
+			T result = work.get();
+			connection.commit();
+			return result;
+		} catch (RuntimeException | Error e) {
+			rollback(connection);
+			throw e;
+		} catch (SQLException e) {
+			rollback(connection);
+			throw new RuntimeException("트랜잭션 처리에 실패했습니다.", e);
+		} finally {
+			CURRENT.remove();
+			close(connection);
+			runCallbacks(context.afterCompletion);
+		}
+	}
+
+	public static void execute(Runnable work) {
+		execute(() -> {
+			work.run();
+			return null;
+		});
+	}
+
+	/**
+	 * 현재 트랜잭션이 커밋 또는 롤백된 뒤에 실행할 작업을 등록
+	 * 트랜잭션이 없으면 바로 실행한다.
+	 */
+	public static void runAfterCompletion(Runnable callback) {
+		TransactionContext context = CURRENT.get();
+		if (context == null)
+			callback.run();
+		else
+			context.afterCompletion.add(callback);
+	}
+
+	// 현재 스레드에서 트랜잭션이 진행 중인지 확인
+	public static boolean isActive() {
+		return CURRENT.get() != null;
+	}
+
+	// 현재 트랜잭션의 커넥션 (close()를 호출해도 닫히지 않는다). 트랜잭션이 없으면 null
+	static Connection currentConnection() {
+		TransactionContext context = CURRENT.get();
+		return context == null ? null : context.shared;
+	}
+
+	// 콜백 하나가 실패해도 커밋/롤백 예외를 가리지 않고 나머지 콜백을 실행하도록 기록만 한다.
+	private static void runCallbacks(List<Runnable> callbacks) {
+		for (Runnable callback : callbacks) {
+			try {
+				callback.run();
+			} catch (RuntimeException e) {
+				System.err.println("트랜잭션 완료 후 작업 실행에 실패했습니다: " + e.getMessage());
+			}
+		}
+	}
+
+	private static void rollback(Connection connection) {
+		try {
+			connection.rollback();
+		} catch (SQLException e) {
+			// 롤백 실패는 원래 예외를 가리지 않도록 무시 (커넥션은 풀에서 정리된다)
+		}
+	}
+
+	private static void close(Connection connection) {
+		try {
+			connection.close();
+		} catch (SQLException e) {
+			// 풀 반환 실패는 무시
+		}
+	}
+
+	private static class TransactionContext {
+		private final Connection shared;
+		private final List<Runnable> afterCompletion = new ArrayList<>();
+
+		private TransactionContext(Connection connection) {
+			// Repository의 try-with-resources가 트랜잭션 도중 커넥션을 반환하지 않도록 close()를 무시한다.
+			this.shared = (Connection)Proxy.newProxyInstance(
+				Connection.class.getClassLoader(),
+				new Class<?>[] {Connection.class},
+				(proxy, method, args) -> {
+					switch (method.getName()) {
+						case "close":
+							return null;
+						case "equals":
+							return proxy == args[0];
+						case "hashCode":
+							return System.identityHashCode(proxy);
+					}
+					try {
+						return method.invoke(connection, args);
+					} catch (InvocationTargetException e) {
+						throw e.getCause();
+					}
+				});
+		}
+	}
+}
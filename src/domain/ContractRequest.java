@@ -10,6 +10,7 @@ public class ContractRequest {
 	private final Long propertyId;
 	private RequestStatus status;
 	private final LocalDateTime createdAt;
+	private long version; // 낙관적 락 버전 (수정될 때마다 1씩 증가)
 
 	// 기본 생성자 (새 요청 생성 시)
 	public ContractRequest(Long requesterId, Long propertyId) {
@@ -59,6 +60,10 @@ public class ContractRequest {
 		return createdAt;
 	}
 
+	public long getVersion() {
+		return version;
+	}
+
 	// Setter 메서드들
 	public void setId(Long id) {
 		this.id = id;
@@ -68,6 +73,10 @@ public class ContractRequest {
 		this.status = status;
 	}
 
+	public void setVersion(long version) {
+		this.version = version;
+	}
+
 	@Override
 	public String toString() {
 		return String.format("요청번호: %d | 요청자 ID: %s | 매물 ID: %s | 요청 상태: [%s] | 요청 시간: %s",
@@ -16,6 +16,7 @@ public class Property {
 	private DealType dealType; // 거래 유형 (전세/월세/매매) - 수정 가능하도록 final 제거
 	private PropertyStatus status; // 매물 상태
 	private LocalDateTime deletedAt;
+	private long version; // 낙관적 락 버전 (수정될 때마다 1씩 증가)
 
 	public Property(Long id, Long ownerId, Location location, Price price, PropertyType propertyType,
 		DealType dealType) {
@@ -62,6 +63,15 @@ public class Property {
 		return deletedAt;
 	}
 
+	public long getVersion() {
+		return version;
+	}
+
+	// 가격 검색 기준 금액: 월세는 월세, 전세/매매는 보증금(매매가)
+	public long getEffectivePrice() {
+		return dealType == DealType.MONTHLY ? price.getMonthlyRent() : price.getDeposit();
+	}
+
 	// Setter 메서드들
 	public void setId(Long id) {
 		this.id = id;
@@ -71,6 +81,10 @@ public class Property {
 		this.status = status;
 	}
 
+	public void setVersion(long version) {
+		this.version = version;
+	}
+
 	public void setDeletedAt() {
 		this.deletedAt = LocalDateTime.now();
 	}
@@ -0,0 +1,43 @@
+package dto;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 여러 건을 한 번에 처리한 결과
+ * - 건별 키(입력 순번, 매물 ID 등)마다 성공한 결과 또는 실패 원인을 담는다.
+ * - 일부가 실패해도 나머지 처리 결과는 그대로 유지된다.
+ */
+public class BatchResult<K, T> {
+	private final Map<K, T> succeeded = new LinkedHashMap<>();
+	private final Map<K, RuntimeException> failures = new LinkedHashMap<>();
+
+	public void addSuccess(K key, T value) {
+		succeeded.put(key, value);
+	}
+
+	public void addFailure(K key, RuntimeException cause) {
+		failures.put(key, cause);
+	}
+
+	public Map<K, T> getSucceeded() {
+		return Collections.unmodifiableMap(succeeded);
+	}
+
+	public Map<K, RuntimeException> getFailures() {
+		return Collections.unmodifiableMap(failures);
+	}
+
+	public int getSuccessCount() {
+		return succeeded.size();
+	}
+
+	public int getFailureCount() {
+		return failures.size();
+	}
+
+	public boolean hasFailures() {
+		return !failures.isEmpty();
+	}
+}
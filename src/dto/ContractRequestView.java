@@ -0,0 +1,33 @@
+package dto;
+
+import domain.ContractRequest;
+import domain.Property;
+import domain.User;
+
+/**
+ * 계약 요청 목록 화면용 조회 결과
+ * 요청, 매물 요약, 상대방(임대인 또는 임차인) 연락처를 한 번의 조인 쿼리로 함께 담는다.
+ */
+public class ContractRequestView {
+	private final ContractRequest request;
+	private final Property property;
+	private final User counterparty; // 임대인 화면에서는 요청자(임차인), 임차인 화면에서는 매물 소유자(임대인)
+
+	public ContractRequestView(ContractRequest request, Property property, User counterparty) {
+		this.request = request;
+		this.property = property;
+		this.counterparty = counterparty;
+	}
+
+	public ContractRequest getRequest() {
+		return request;
+	}
+
+	public Property getProperty() {
+		return property;
+	}
+
+	public User getCounterparty() {
+		return counterparty;
+	}
+}
@@ -0,0 +1,125 @@
+package dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import domain.enums.DealType;
+import domain.enums.PropertyType;
+
+/**
+ * 검색 조건을 좁힐 때 항목 옆에 보여줄 매물 수 (매물 유형, 거래 유형, 군/구, 가격 구간별)
+ * 각 항목의 수는 같은 종류의 조건만 빼고 나머지 조건을 모두 적용한 매물 수이다.
+ * 예) 유형을 아파트로 검색했을 때 빌라의 수는 "유형만 빌라로 바꿔 검색하면 나오는 매물 수"
+ */
+public class PropertyFacets {
+	// 가격 구간의 하한 (검색 기준 가격, 마지막 구간은 상한 없음)
+	private static final long[] PRICE_BUCKET_MINS = {
+		0L, 500_000L, 1_000_000L, 10_000_000L, 50_000_000L, 100_000_000L, 300_000_000L, 500_000_000L,
+		1_000_000_000L
+	};
+
+	private final int total;
+	private final Map<PropertyType, Integer> byPropertyType;
+	private final Map<DealType, Integer> byDealType;
+	private final Map<String, Integer> byDistrict;
+	private final List<PriceBucket> priceBuckets;
+
+	public PropertyFacets(int total, Map<PropertyType, Integer> byPropertyType, Map<DealType, Integer> byDealType,
+		Map<String, Integer> byDistrict, int[] priceBucketCounts) {
+		this.total = total;
+		this.byPropertyType = Collections.unmodifiableMap(withZeros(byPropertyType, PropertyType.class));
+		this.byDealType = Collections.unmodifiableMap(withZeros(byDealType, DealType.class));
+		this.byDistrict = Collections.unmodifiableMap(new TreeMap<>(byDistrict));
+		List<PriceBucket> buckets = new ArrayList<>(PRICE_BUCKET_MINS.length);
+		for (int i = 0; i < PRICE_BUCKET_MINS.length; i++)
+			buckets.add(new PriceBucket(getPriceBucketMin(i), getPriceBucketMax(i), priceBucketCounts[i]));
+		this.priceBuckets = Collections.unmodifiableList(buckets);
+	}
+
+	private static <E extends Enum<E>> Map<E, Integer> withZeros(Map<E, Integer> counts, Class<E> type) {
+		Map<E, Integer> result = new EnumMap<>(type);
+		for (E value : type.getEnumConstants())
+			result.put(value, counts.getOrDefault(value, 0));
+		return result;
+	}
+
+	public static int getPriceBucketCount() {
+		return PRICE_BUCKET_MINS.length;
+	}
+
+	// 가격이 속한 구간 번호 (0부터, 음수 가격은 0번 구간)
+	public static int priceBucketOf(long price) {
+		for (int i = PRICE_BUCKET_MINS.length - 1; i > 0; i--) {
+			if (price >= PRICE_BUCKET_MINS[i])
+				return i;
+		}
+		return 0;
+	}
+
+	public static long getPriceBucketMin(int bucket) {
+		return PRICE_BUCKET_MINS[bucket];
+	}
+
+	// 구간의 상한 (포함, 마지막 구간은 Long.MAX_VALUE)
+	public static long getPriceBucketMax(int bucket) {
+		return bucket + 1 < PRICE_BUCKET_MINS.length ? PRICE_BUCKET_MINS[bucket + 1] - 1 : Long.MAX_VALUE;
+	}
+
+	// 모든 조건에 맞는 매물 수
+	public int getTotal() {
+		return total;
+	}
+
+	// 매물 유형별 수 (모든 유형 포함)
+	public Map<PropertyType, Integer> getByPropertyType() {
+		return byPropertyType;
+	}
+
+	// 거래 유형별 수 (모든 거래 유형 포함)
+	public Map<DealType, Integer> getByDealType() {
+		return byDealType;
+	}
+
+	// 군/구별 수 (매물이 있는 군/구만, 이름순)
+	public Map<String, Integer> getByDistrict() {
+		return byDistrict;
+	}
+
+	// 가격 구간별 수 (모든 구간 포함, 가격 오름차순)
+	public List<PriceBucket> getPriceBuckets() {
+		return priceBuckets;
+	}
+
+	public static class PriceBucket {
+		private final long min;
+		private final long max;
+		private final int count;
+
+		public PriceBucket(long min, long max, int count) {
+			this.min = min;
+			this.max = max;
+			this.count = count;
+		}
+
+		public long getMin() {
+			return min;
+		}
+
+		// 상한 (포함, 마지막 구간은 Long.MAX_VALUE)
+		public long getMax() {
+			return max;
+		}
+
+		public int getCount() {
+			return count;
+		}
+
+		public boolean isUnbounded() {
+			return max == Long.MAX_VALUE;
+		}
+	}
+}
@@ -0,0 +1,35 @@
+package dto;
+
+import java.util.List;
+
+import domain.Property;
+
+/**
+ * 매물 검색 결과의 한 페이지
+ * nextCursor를 다음 검색에 그대로 넘기면 이어지는 페이지를 조회할 수 있다. (마지막 페이지면 null)
+ */
+public class PropertyPage {
+	private final List<Property> content;
+	private final String nextCursor;
+
+	public PropertyPage(List<Property> content, String nextCursor) {
+		this.content = content;
+		this.nextCursor = nextCursor;
+	}
+
+	public List<Property> getContent() {
+		return content;
+	}
+
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	public boolean hasNext() {
+		return nextCursor != null;
+	}
+
+	public boolean isEmpty() {
+		return content.isEmpty();
+	}
+}
@@ -0,0 +1,39 @@
+package dto;
+
+/**
+ * 지역 선택 화면에 보여줄 지역과 그 지역의 거래 가능 매물 수
+ * 시/도 단위이면 district는 null이다.
+ */
+public class RegionCount {
+	private final String city;
+	private final String district;
+	private final int availableCount;
+
+	public RegionCount(String city, String district, int availableCount) {
+		this.city = city;
+		this.district = district;
+		this.availableCount = availableCount;
+	}
+
+	public String getCity() {
+		return city;
+	}
+
+	public String getDistrict() {
+		return district;
+	}
+
+	public int getAvailableCount() {
+		return availableCount;
+	}
+
+	// 목록에 표시할 이름 (시/도 단위면 시/도, 아니면 군/구)
+	public String getName() {
+		return district != null ? district : city;
+	}
+
+	@Override
+	public String toString() {
+		return getName() + " (" + availableCount + ")";
+	}
+}
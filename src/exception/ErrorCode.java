@@ -3,8 +3,11 @@ package exception;
 public enum ErrorCode {
 	// 공통
 	INVALID_INPUT_VALUE(400, "잘못된 입력 값입니다."),
+	METHOD_NOT_ALLOWED(405, "허용되지 않는 요청 방식입니다."),
+	CONCURRENT_MODIFICATION(409, "다른 사용자가 먼저 수정했습니다. 다시 조회한 뒤 시도해주세요."),
 
 	// 사용자 관련
+	UNAUTHORIZED(401, "로그인이 필요합니다."),
 	USER_NOT_FOUND(404, "존재하지 않는 회원입니다."),
 	NO_AUTHORITY(403, "권한이 없습니다."),
 
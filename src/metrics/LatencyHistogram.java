@@ -0,0 +1,92 @@
+package metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 락 없이 여러 스레드가 동시에 기록할 수 있는 지연 시간 히스토그램
+ * - 값(나노초)을 2의 거듭제곱 구간마다 16개로 나눈 로그-선형 버킷에 센다. (상대 오차 약 6% 이내)
+ * - 기록은 AtomicLongArray의 증가 한 번이므로 측정 대상에 주는 부담이 작다.
+ * - 백분위수는 해당 버킷의 상한값으로 돌려준다.
+ */
+public class LatencyHistogram {
+	// 2의 거듭제곱 구간 하나를 나누는 버킷 수 (2^SUB_BUCKET_BITS)
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (63 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+	private final AtomicLong count = new AtomicLong();
+	private final AtomicLong sum = new AtomicLong();
+	private final AtomicLong max = new AtomicLong();
+
+	public void record(long nanos) {
+		long value = Math.max(0, nanos);
+		buckets.incrementAndGet(indexOf(value));
+		count.incrementAndGet();
+		sum.addAndGet(value);
+		max.accumulateAndGet(value, Math::max);
+	}
+
+	public void record(long duration, TimeUnit unit) {
+		record(unit.toNanos(duration));
+	}
+
+	public long getCount() {
+		return count.get();
+	}
+
+	public long getMaxNanos() {
+		return max.get();
+	}
+
+	public double getMeanNanos() {
+		long total = count.get();
+		return total == 0 ? 0 : sum.get() / (double)total;
+	}
+
+	/**
+	 * @param percentile 0~100 사이의 백분위 (예: 99.9)
+	 * @return 해당 백분위에 해당하는 지연 시간(나노초)의 상한. 기록이 없으면 0
+	 */
+	public long getPercentileNanos(double percentile) {
+		long total = count.get();
+		if (total == 0)
+			return 0;
+		long rank = Math.max(1, (long)Math.ceil(total * Math.min(100, Math.max(0, percentile)) / 100.0));
+		long seen = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			seen += buckets.get(i);
+			if (seen >= rank)
+				return Math.min(upperBoundOf(i), max.get());
+		}
+		return max.get();
+	}
+
+	// 값을 버킷 번호로 변환: 16 미만은 그대로, 그 이상은 (지수, 상위 4비트)로 나눈다.
+	static int indexOf(long value) {
+		if (value < SUB_BUCKET_COUNT)
+			return (int)value;
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int shift = exponent - SUB_BUCKET_BITS;
+		int sub = (int)((value >>> shift) & (SUB_BUCKET_COUNT - 1));
+		return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + sub;
+	}
+
+	static long upperBoundOf(int index) {
+		if (index < SUB_BUCKET_COUNT)
+			return index;
+		int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+		int sub = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+		long lower = (long)(SUB_BUCKET_COUNT + sub) << shift;
+		return lower + (1L << shift) - 1;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("count=%d, mean=%.3fms, p50=%.3fms, p99=%.3fms, max=%.3fms",
+			getCount(), getMeanNanos() / 1_000_000, getPercentileNanos(50) / 1_000_000.0,
+			getPercentileNanos(99) / 1_000_000.0, getMaxNanos() / 1_000_000.0);
+	}
+}
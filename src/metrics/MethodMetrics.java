@@ -0,0 +1,65 @@
+package metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+
+/**
+ * 메서드별 지연 시간 통계 모음
+ * - 이름("PropertyRepository.findById" 등)마다 MethodStats를 하나씩 만들어 둔다.
+ * - 호출할 때마다 찾지 않도록 계측 코드는 생성 시점에 stats()로 받아 둔 객체에 기록한다.
+ * - 캐시 적중률처럼 호출 단위가 아닌 상태 값은 registerGauge()로 등록하면 보고서를 만들 때 함께 읽는다.
+ */
+public class MethodMetrics {
+	private static final MethodMetrics DEFAULT = new MethodMetrics();
+
+	private final Map<String, MethodStats> stats = new ConcurrentHashMap<>();
+	// 이름순으로 출력하는 상태 값
+	private final Map<String, Supplier<String>> gauges = new ConcurrentSkipListMap<>();
+
+	// 애플리케이션 전체에서 함께 쓰는 기본 통계 (관리자 명령, 주기적 기록에서 조회)
+	public static MethodMetrics getDefault() {
+		return DEFAULT;
+	}
+
+	public MethodStats stats(String name) {
+		return stats.computeIfAbsent(name, MethodStats::new);
+	}
+
+	// 같은 이름으로 다시 등록하면 덮어쓴다.
+	public void registerGauge(String name, Supplier<String> gauge) {
+		gauges.put(name, gauge);
+	}
+
+	public List<MethodStats> snapshot() {
+		List<MethodStats> result = new ArrayList<>(stats.values());
+		result.sort((a, b) -> a.getName().compareTo(b.getName()));
+		return result;
+	}
+
+	// 한 번 이상 호출된 메서드의 통계를 표로 만든다. (시간 단위: ms)
+	public String report() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format("%-62s %9s %7s %9s %9s %9s %9s %9s%n",
+			"method", "calls", "errors", "mean", "p50", "p99", "p99.9", "max"));
+		for (MethodStats method : snapshot()) {
+			LatencyHistogram histogram = method.getHistogram();
+			if (histogram.getCount() == 0)
+				continue;
+			sb.append(String.format("%-62s %9d %7d %9.3f %9.3f %9.3f %9.3f %9.3f%n",
+				method.getName(), histogram.getCount(), method.getErrors(), histogram.getMeanNanos() / 1_000_000,
+				millis(histogram.getPercentileNanos(50)), millis(histogram.getPercentileNanos(99)),
+				millis(histogram.getPercentileNanos(99.9)), millis(histogram.getMaxNanos())));
+		}
+		for (Map.Entry<String, Supplier<String>> gauge : gauges.entrySet())
+			sb.append(String.format("%-62s %s%n", gauge.getKey(), gauge.getValue().get()));
+		return sb.toString();
+	}
+
+	private static double millis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+}
@@ -0,0 +1,64 @@
+package metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 메서드 하나의 호출 수, 오류 수, 지연 시간 분포
+ * 기록은 히스토그램의 원자적 증가와 LongAdder뿐이므로 여러 스레드가 락 없이 동시에 기록한다.
+ */
+public class MethodStats {
+	private final String name;
+	private final LatencyHistogram histogram = new LatencyHistogram();
+	private final LongAdder errors = new LongAdder();
+
+	MethodStats(String name) {
+		this.name = name;
+	}
+
+	public <T> T time(Supplier<T> call) {
+		long start = System.nanoTime();
+		boolean failed = true;
+		try {
+			T result = call.get();
+			failed = false;
+			return result;
+		} finally {
+			record(start, failed);
+		}
+	}
+
+	public void time(Runnable call) {
+		long start = System.nanoTime();
+		boolean failed = true;
+		try {
+			call.run();
+			failed = false;
+		} finally {
+			record(start, failed);
+		}
+	}
+
+	// 오류로 끝난 호출도 지연 시간에 포함한다.
+	public void record(long startNanos, boolean failed) {
+		histogram.record(System.nanoTime() - startNanos);
+		if (failed)
+			errors.increment();
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public LatencyHistogram getHistogram() {
+		return histogram;
+	}
+
+	public long getCalls() {
+		return histogram.getCount();
+	}
+
+	public long getErrors() {
+		return errors.sum();
+	}
+}
@@ -0,0 +1,88 @@
+package metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메서드별 통계를 주기적으로 로그 파일 끝에 덧붙인다.
+ * - METRICS_DUMP_FILE: 기록할 파일 경로 (지정하지 않으면 기록하지 않는다)
+ * - METRICS_DUMP_INTERVAL_SECONDS: 기록 주기 (기본 60초)
+ * 통계는 누적값이므로 각 기록은 애플리케이션 시작 이후 전체 호출에 대한 값이다.
+ */
+public class MetricsReporter {
+	private static final long DEFAULT_INTERVAL_SECONDS = 60;
+
+	private final MethodMetrics metrics;
+	private final Path file;
+	private final long intervalSeconds;
+	private ScheduledExecutorService scheduler;
+
+	public MetricsReporter(MethodMetrics metrics, Path file, long intervalSeconds) {
+		this.metrics = metrics;
+		this.file = file;
+		this.intervalSeconds = intervalSeconds;
+	}
+
+	/**
+	 * 환경 변수 설정으로 만든다.
+	 * @return METRICS_DUMP_FILE이 없으면 null
+	 */
+	public static MetricsReporter fromEnv(MethodMetrics metrics) {
+		String file = System.getenv("METRICS_DUMP_FILE");
+		if (file == null || file.isBlank())
+			return null;
+		return new MetricsReporter(metrics, Path.of(file.trim()), getIntervalEnv());
+	}
+
+	public synchronized void start() {
+		if (scheduler != null)
+			return;
+		scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "metrics-reporter");
+			thread.setDaemon(true);
+			return thread;
+		});
+		scheduler.scheduleAtFixedRate(this::dump, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+	}
+
+	// 종료 직전까지의 통계를 한 번 더 기록하고 멈춘다.
+	public synchronized void stop() {
+		if (scheduler == null)
+			return;
+		scheduler.shutdownNow();
+		scheduler = null;
+		dump();
+	}
+
+	public void dump() {
+		String report = "=== " + LocalDateTime.now() + " ===" + System.lineSeparator() + metrics.report();
+		try {
+			Files.writeString(file, report, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+				StandardOpenOption.APPEND);
+		} catch (IOException e) {
+			// 통계 기록 실패가 서비스에 영향을 주지 않도록 알리기만 한다.
+			System.err.println("메서드 통계 기록에 실패했습니다: " + file + " - " + e.getMessage());
+		}
+	}
+
+	private static long getIntervalEnv() {
+		String value = System.getenv("METRICS_DUMP_INTERVAL_SECONDS");
+		if (value == null || value.isBlank())
+			return DEFAULT_INTERVAL_SECONDS;
+		try {
+			long seconds = Long.parseLong(value.trim());
+			if (seconds <= 0)
+				throw new NumberFormatException();
+			return seconds;
+		} catch (NumberFormatException e) {
+			throw new RuntimeException("환경 변수 METRICS_DUMP_INTERVAL_SECONDS의 값이 올바르지 않습니다: " + value);
+		}
+	}
+}
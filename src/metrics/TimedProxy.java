@@ -0,0 +1,73 @@
+package metrics;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 인터페이스의 모든 메서드 호출 시간을 기록하는 동적 프록시
+ * - 통계 이름은 "인터페이스.메서드"이고, 오버로드된 메서드는 매개변수 타입을 붙여 구분한다.
+ * - 메서드별 MethodStats는 프록시를 만들 때 미리 찾아 두므로 호출 중에는 맵 조회만 한다.
+ */
+public final class TimedProxy {
+	private TimedProxy() {
+	}
+
+	public static <T> T wrap(Class<T> type, T target, MethodMetrics metrics) {
+		Map<String, Integer> overloads = new HashMap<>();
+		for (Method method : type.getMethods())
+			overloads.merge(method.getName(), 1, Integer::sum);
+
+		Map<Method, MethodStats> statsByMethod = new HashMap<>();
+		for (Method method : type.getMethods())
+			statsByMethod.put(method, metrics.stats(statName(type, method, overloads.get(method.getName()) > 1)));
+
+		Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (self, method, args) -> {
+			MethodStats stats = statsByMethod.get(method);
+			// equals/hashCode는 프록시 자신을 기준으로 하고, Object의 메서드는 기록하지 않는다.
+			if (stats == null) {
+				if (method.getName().equals("equals") && method.getParameterCount() == 1)
+					return self == args[0];
+				if (method.getName().equals("hashCode") && method.getParameterCount() == 0)
+					return System.identityHashCode(self);
+				return invoke(method, target, args);
+			}
+
+			long start = System.nanoTime();
+			boolean failed = true;
+			try {
+				Object result = invoke(method, target, args);
+				failed = false;
+				return result;
+			} finally {
+				stats.record(start, failed);
+			}
+		});
+		return type.cast(proxy);
+	}
+
+	// 리플렉션 예외 대신 대상 메서드가 던진 예외를 그대로 전달한다.
+	private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+	private static String statName(Class<?> type, Method method, boolean overloaded) {
+		String name = type.getSimpleName() + "." + method.getName();
+		if (!overloaded)
+			return name;
+		StringBuilder sb = new StringBuilder(name).append('(');
+		Class<?>[] parameterTypes = method.getParameterTypes();
+		for (int i = 0; i < parameterTypes.length; i++) {
+			if (i > 0)
+				sb.append(',');
+			sb.append(parameterTypes[i].getSimpleName());
+		}
+		return sb.append(')').toString();
+	}
+}
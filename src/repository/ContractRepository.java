@@ -5,24 +5,25 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.List;
 import java.util.Optional;
 
 import config.DBConnectionManager;
 import domain.Contract;
 
 public class ContractRepository {
+	// 계약 ID는 계약 요청 ID를 그대로 사용하므로 조회 없이 업서트 한 번으로 저장한다.
+	private static final String UPSERT_SQL = UpsertSql.build("contracts",
+		List.of("id", "lessor_id", "lessee_id", "status", "created_at"),
+		List.of("status"));
+
+	/**
+	 * 계약 저장 (없으면 INSERT, 이미 있으면 상태만 수정)
+	 * 존재 여부를 먼저 조회하지 않으므로 한 번의 왕복으로 끝나고, 동시에 저장해도 중복 키 오류가 나지 않는다.
+	 */
 	public Contract save(Contract contract) {
-		if (findById(contract.getId()).isPresent()) {
-			return update(contract);
-		} else {
-			return insert(contract);
-		}
-	}
-
-	private Contract insert(Contract contract) {
-		String sql = "INSERT INTO contracts (id, lessor_id, lessee_id, status, created_at) VALUES (?, ?, ?, ?, ?)";
 		try (Connection conn = DBConnectionManager.getConnection();
-			 PreparedStatement stmt = conn.prepareStatement(sql)) {
+			 PreparedStatement stmt = conn.prepareStatement(UPSERT_SQL)) {
 
 			stmt.setLong(1, contract.getId());
 			stmt.setLong(2, contract.getLessorId());
@@ -32,21 +33,7 @@ public class ContractRepository {
 			stmt.executeUpdate();
 			return contract;
 		} catch (SQLException e) {
-			throw new RuntimeException("계약 정보 저장(insert)에 실패했습니다.", e);
-		}
-	}
-
-	private Contract update(Contract contract) {
-		String sql = "UPDATE contracts SET status = ? WHERE id = ?";
-		try (Connection conn = DBConnectionManager.getConnection();
-			 PreparedStatement stmt = conn.prepareStatement(sql)) {
-
-			stmt.setString(1, contract.getStatus().name());
-			stmt.setLong(2, contract.getId());
-			stmt.executeUpdate();
-			return contract;
-		} catch (SQLException e) {
-			throw new RuntimeException("계약 정보 수정(update)에 실패했습니다.", e);
+			throw new RuntimeException("계약 정보 저장에 실패했습니다.", e);
 		}
 	}
 
@@ -12,8 +12,29 @@ import java.util.Optional;
 
 import config.DBConnectionManager;
 import domain.ContractRequest;
+import domain.Location;
+import domain.Price;
+import domain.Property;
+import domain.User;
+import domain.enums.DealType;
+import domain.enums.PropertyStatus;
+import domain.enums.PropertyType;
+import domain.enums.Role;
+import dto.ContractRequestView;
+import exception.CustomException;
+import exception.ErrorCode;
 
 public class ContractRequestRepository {
+	private static final String INSERT_SQL = "INSERT INTO contract_requests (requester_id, property_id, status, created_at) VALUES (?, ?, ?, ?)";
+
+	// 요청 + 매물 요약 + 상대방 연락처 조회용 컬럼 (u는 상대방 사용자)
+	private static final String VIEW_COLUMNS = "SELECT cr.*, " +
+		"p.owner_id, p.city, p.district, p.deposit, p.monthly_rent, p.property_type, p.deal_type, " +
+		"p.status AS property_status, p.version AS property_version, " +
+		"u.id AS user_id, u.email, u.role, u.phone_number, u.address " +
+		"FROM contract_requests cr " +
+		"JOIN properties p ON cr.property_id = p.id ";
+
 	// ID가 없으면 INSERT, 있으면 UPDATE
 	public ContractRequest save(ContractRequest request) {
 		if (request.getId() == null)
@@ -23,13 +44,9 @@ public class ContractRequestRepository {
 	}
 
 	private ContractRequest insert(ContractRequest request) {
-		String sql = "INSERT INTO contract_requests (requester_id, property_id, status, created_at) VALUES (?, ?, ?, ?)";
 		try (Connection conn = DBConnectionManager.getConnection();
-			 PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-			stmt.setLong(1, request.getRequesterId());
-			stmt.setLong(2, request.getPropertyId());
-			stmt.setString(3, request.getStatus().name());
-			stmt.setTimestamp(4, Timestamp.valueOf(request.getCreatedAt()));
+			 PreparedStatement stmt = conn.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+			bindInsert(stmt, request);
 			stmt.executeUpdate();
 
 			try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
@@ -42,17 +59,78 @@ public class ContractRequestRepository {
 		}
 	}
 
+	/**
+	 * 새 계약 요청 여러 건을 하나의 배치 INSERT로 저장
+	 * 전부 저장되거나 전부 취소되도록 커밋한다. (이미 트랜잭션 안이면 그 트랜잭션을 따른다)
+	 * @param requests ID가 없는 새 계약 요청 목록
+	 * @return 생성된 ID가 채워진 요청 목록 (입력 순서 유지)
+	 */
+	public List<ContractRequest> saveAll(List<ContractRequest> requests) {
+		if (requests.isEmpty())
+			return requests;
+
+		try (Connection conn = DBConnectionManager.getConnection()) {
+			boolean ownCommit = conn.getAutoCommit();
+			if (ownCommit)
+				conn.setAutoCommit(false);
+			try (PreparedStatement stmt = conn.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+				for (ContractRequest request : requests) {
+					bindInsert(stmt, request);
+					stmt.addBatch();
+				}
+				stmt.executeBatch();
+
+				// 생성된 키는 입력 순서대로 반환된다.
+				try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+					for (ContractRequest request : requests) {
+						if (!generatedKeys.next())
+							throw new SQLException("생성된 계약 요청 ID의 개수가 저장한 행 수보다 적습니다.");
+						request.setId(generatedKeys.getLong(1));
+					}
+				}
+				if (ownCommit)
+					conn.commit();
+				return requests;
+			} catch (SQLException e) {
+				if (ownCommit)
+					conn.rollback();
+				for (ContractRequest request : requests)
+					request.setId(null);
+				throw e;
+			} finally {
+				if (ownCommit)
+					conn.setAutoCommit(true);
+			}
+		} catch (SQLException e) {
+			throw new RuntimeException("계약 요청 일괄 저장에 실패했습니다.", e);
+		}
+	}
+
+	private void bindInsert(PreparedStatement stmt, ContractRequest request) throws SQLException {
+		stmt.setLong(1, request.getRequesterId());
+		stmt.setLong(2, request.getPropertyId());
+		stmt.setString(3, request.getStatus().name());
+		stmt.setTimestamp(4, Timestamp.valueOf(request.getCreatedAt()));
+	}
+
+	// 조회했을 때의 버전과 DB의 버전이 같을 때만 수정 (낙관적 락)
 	private ContractRequest update(ContractRequest request) {
-		String sql = "UPDATE contract_requests SET status = ? WHERE id = ?";
+		String sql = "UPDATE contract_requests SET status = ?, version = version + 1 WHERE id = ? AND version = ?";
+		int updatedRows;
 		try (Connection conn = DBConnectionManager.getConnection();
 			 PreparedStatement stmt = conn.prepareStatement(sql)) {
 			stmt.setString(1, request.getStatus().name());
 			stmt.setLong(2, request.getId());
-			stmt.executeUpdate();
-			return request;
+			stmt.setLong(3, request.getVersion());
+			updatedRows = stmt.executeUpdate();
 		} catch (SQLException e) {
 			throw new RuntimeException("계약 요청 수정에 실패했습니다.");
 		}
+
+		if (updatedRows == 0)
+			throw new CustomException(ErrorCode.CONCURRENT_MODIFICATION);
+		request.setVersion(request.getVersion() + 1);
+		return request;
 	}
 
 	// 요청 ID로 특정 요청을 조회
@@ -63,7 +141,7 @@ public class ContractRequestRepository {
 			stmt.setLong(1, id);
 			try (ResultSet rs = stmt.executeQuery()) {
 				if (rs.next())
-					return Optional.of(mapContractRequest(rs));
+					return Optional.of(RowMappers.mapContractRequest(rs));
 			}
 		} catch (SQLException e) {
 			throw new RuntimeException("ID로 계약 요청 조회에 실패했습니다.", e);
@@ -80,7 +158,7 @@ public class ContractRequestRepository {
 			stmt.setLong(1, userId);
 			try (ResultSet rs = stmt.executeQuery()) {
 				while (rs.next())
-					requests.add(mapContractRequest(rs));
+					requests.add(RowMappers.mapContractRequest(rs));
 			}
 		} catch (SQLException e) {
 			throw new RuntimeException("요청자 ID로 계약 요청 조회에 실패했습니다.");
@@ -99,7 +177,7 @@ public class ContractRequestRepository {
 			stmt.setLong(1, ownerId);
 			try (ResultSet rs = stmt.executeQuery()) {
 				while (rs.next())
-					requests.add(mapContractRequest(rs));
+					requests.add(RowMappers.mapContractRequest(rs));
 			}
 		} catch (SQLException e) {
 			throw new RuntimeException("매물 소유자 ID로 계약 요청 조회에 실패했습니다.");
@@ -107,13 +185,72 @@ public class ContractRequestRepository {
 		return requests;
 	}
 
-	private ContractRequest mapContractRequest(ResultSet rs) throws SQLException {
-		return new ContractRequest(
-			rs.getLong("id"),
-			rs.getLong("requester_id"),
-			rs.getLong("property_id"),
-			domain.enums.RequestStatus.valueOf(rs.getString("status")),
-			rs.getTimestamp("created_at").toLocalDateTime()
+	/**
+	 * 임차인 화면용: 요청자가 한 요청을 매물 요약, 임대인 연락처와 함께 한 번에 조회
+	 * @param userId 요청자(임차인) ID
+	 * @return 요청 ID 순 목록 (상대방은 매물 소유자)
+	 */
+	public List<ContractRequestView> findViewsByRequesterId(Long userId) {
+		String sql = VIEW_COLUMNS +
+			"JOIN users u ON p.owner_id = u.id " +
+			"WHERE cr.requester_id = ? ORDER BY cr.id";
+		try {
+			return queryViews(sql, userId);
+		} catch (SQLException e) {
+			throw new RuntimeException("요청자 ID로 계약 요청 목록 조회에 실패했습니다.");
+		}
+	}
+
+	/**
+	 * 임대인 화면용: 소유한 매물에 들어온 요청을 매물 요약, 임차인 연락처와 함께 한 번에 조회
+	 * @param ownerId 매물 소유자(임대인) ID
+	 * @return 요청 ID 순 목록 (상대방은 요청자)
+	 */
+	public List<ContractRequestView> findViewsByPropertyOwnerId(Long ownerId) {
+		String sql = VIEW_COLUMNS +
+			"JOIN users u ON cr.requester_id = u.id " +
+			"WHERE p.owner_id = ? ORDER BY cr.id";
+		try {
+			return queryViews(sql, ownerId);
+		} catch (SQLException e) {
+			throw new RuntimeException("매물 소유자 ID로 계약 요청 목록 조회에 실패했습니다.");
+		}
+	}
+
+	private List<ContractRequestView> queryViews(String sql, Long userId) throws SQLException {
+		List<ContractRequestView> views = new ArrayList<>();
+		try (Connection conn = DBConnectionManager.getConnection();
+			 PreparedStatement stmt = conn.prepareStatement(sql)) {
+			stmt.setLong(1, userId);
+			try (ResultSet rs = stmt.executeQuery()) {
+				while (rs.next())
+					views.add(mapContractRequestView(rs));
+			}
+		}
+		return views;
+	}
+
+	private ContractRequestView mapContractRequestView(ResultSet rs) throws SQLException {
+		ContractRequest request = RowMappers.mapContractRequest(rs);
+
+		Property property = new Property(
+			request.getPropertyId(),
+			rs.getLong("owner_id"),
+			new Location(rs.getString("city"), rs.getString("district")),
+			new Price(rs.getLong("deposit"), rs.getLong("monthly_rent")),
+			PropertyType.valueOf(rs.getString("property_type")),
+			DealType.valueOf(rs.getString("deal_type"))
+		);
+		property.setStatus(PropertyStatus.valueOf(rs.getString("property_status")));
+		property.setVersion(rs.getLong("property_version"));
+
+		User counterparty = new User(
+			rs.getLong("user_id"),
+			rs.getString("email"),
+			Role.valueOf(rs.getString("role")),
+			rs.getString("phone_number"),
+			rs.getString("address")
 		);
+		return new ContractRequestView(request, property, counterparty);
 	}
-} 
+}
@@ -0,0 +1,165 @@
+package repository;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import domain.Property;
+
+/**
+ * PropertyRepository.findById 앞에 두는 매물 캐시
+ * - 항목마다 대략적인 메모리 크기를 계산하여 전체 크기가 maxWeightBytes를 넘으면 가장 오래 사용되지 않은 항목부터 제거한다.
+ * - 다른 노드에서 수정된 매물이 오래 남지 않도록 ttlMillis가 지나면 다시 DB에서 읽는다.
+ * - 호출한 쪽이 객체를 수정해도 캐시에 영향이 없도록 항상 복사본을 주고받는다.
+ */
+public class PropertyCache {
+	// 객체 헤더, 필드, Location/Price 객체 등 문자열을 제외한 대략적인 크기
+	private static final long BASE_WEIGHT_BYTES = 200;
+
+	private final long maxWeightBytes;
+	private final long ttlMillis;
+	private final LinkedHashMap<Long, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private long currentWeight = 0;
+	// 무효화가 일어날 때마다 증가. 조회 도중 무효화된 값이 다시 캐시에 들어가지 않도록 사용한다.
+	private long invalidationStamp = 0;
+
+	// 메트릭
+	private long hitCount = 0;
+	private long missCount = 0;
+	private long evictionCount = 0;
+
+	public PropertyCache(long maxWeightBytes, long ttlMillis) {
+		this.maxWeightBytes = maxWeightBytes;
+		this.ttlMillis = ttlMillis;
+	}
+
+	/**
+	 * 캐시된 매물의 복사본을 반환
+	 * @return 캐시에 없거나 만료되었으면 null
+	 */
+	public synchronized Property get(Long id) {
+		CacheEntry entry = entries.get(id);
+		if (entry == null || System.currentTimeMillis() - entry.loadedAt > ttlMillis) {
+			if (entry != null)
+				remove(id);
+			missCount++;
+			return null;
+		}
+		hitCount++;
+		return copy(entry.property);
+	}
+
+	// DB 조회를 시작하기 전에 받아두고, put()에 그대로 넘긴다.
+	public synchronized long currentStamp() {
+		return invalidationStamp;
+	}
+
+	/**
+	 * DB에서 읽은 매물을 캐시에 저장
+	 * @param stamp 조회 시작 전에 받은 currentStamp() 값 (그 사이 무효화가 있었으면 저장하지 않는다)
+	 */
+	public synchronized void put(Property property, long stamp) {
+		if (stamp != invalidationStamp || property.getId() == null)
+			return;
+
+		remove(property.getId());
+		CacheEntry entry = new CacheEntry(copy(property), estimateWeight(property), System.currentTimeMillis());
+		if (entry.weight > maxWeightBytes)
+			return;
+		entries.put(property.getId(), entry);
+		currentWeight += entry.weight;
+		evictIfNeeded();
+	}
+
+	public synchronized void invalidate(Long id) {
+		invalidationStamp++;
+		remove(id);
+	}
+
+	public synchronized void clear() {
+		invalidationStamp++;
+		entries.clear();
+		currentWeight = 0;
+	}
+
+	private void remove(Long id) {
+		CacheEntry removed = entries.remove(id);
+		if (removed != null)
+			currentWeight -= removed.weight;
+	}
+
+	private void evictIfNeeded() {
+		Iterator<Map.Entry<Long, CacheEntry>> iterator = entries.entrySet().iterator();
+		while (currentWeight > maxWeightBytes && iterator.hasNext()) {
+			currentWeight -= iterator.next().getValue().weight;
+			iterator.remove();
+			evictionCount++;
+		}
+	}
+
+	private long estimateWeight(Property property) {
+		// 문자열은 UTF-16 기준 문자당 2바이트 + 헤더
+		long weight = BASE_WEIGHT_BYTES;
+		weight += 40 + 2L * property.getLocation().getCity().length();
+		weight += 40 + 2L * property.getLocation().getDistrict().length();
+		return weight;
+	}
+
+	private Property copy(Property source) {
+		Property copied = new Property(
+			source.getId(),
+			source.getOwnerId(),
+			source.getLocation(),
+			source.getPrice(),
+			source.getPropertyType(),
+			source.getDealType()
+		);
+		copied.setStatus(source.getStatus());
+		copied.setVersion(source.getVersion());
+		return copied;
+	}
+
+	// ======================================= 메트릭 =======================================
+	public synchronized long getHitCount() {
+		return hitCount;
+	}
+
+	public synchronized long getMissCount() {
+		return missCount;
+	}
+
+	public synchronized long getEvictionCount() {
+		return evictionCount;
+	}
+
+	public synchronized double getHitRatio() {
+		long total = hitCount + missCount;
+		return total == 0 ? 0 : hitCount / (double)total;
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	public synchronized long getWeightBytes() {
+		return currentWeight;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return String.format("PropertyCache[size=%d, weight=%d/%dB, hitRatio=%.2f, hits=%d, misses=%d, evictions=%d]",
+			entries.size(), currentWeight, maxWeightBytes, getHitRatio(), hitCount, missCount, evictionCount);
+	}
+
+	private static class CacheEntry {
+		private final Property property;
+		private final long weight;
+		private final long loadedAt;
+
+		private CacheEntry(Property property, long weight, long loadedAt) {
+			this.property = property;
+			this.weight = weight;
+			this.loadedAt = loadedAt;
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package repository;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import domain.enums.DealType;
+import domain.enums.PropertyType;
+import dto.PropertyFacets;
+import dto.PropertyFilter;
+
+/**
+ * 매물(또는 같은 값을 가진 매물 묶음)을 한 번씩만 보고 PropertyFacets를 집계
+ * - 유형/거래 유형/군·구/가격 조건을 모두 만족하면 전체 수와 모든 항목에 더한다.
+ * - 조건 하나만 만족하지 않으면 그 조건의 항목에만 더한다. (그 조건만 바꾸면 검색되는 매물)
+ * - 둘 이상 만족하지 않으면 어디에도 더하지 않는다.
+ * 시/도와 계약 완료 여부는 항목이 아니므로 호출하는 쪽에서 미리 걸러서 넘긴다.
+ */
+class PropertyFacetCounter {
+	private final PropertyFilter filter;
+	private final Map<PropertyType, Integer> byPropertyType = new EnumMap<>(PropertyType.class);
+	private final Map<DealType, Integer> byDealType = new EnumMap<>(DealType.class);
+	private final Map<String, Integer> byDistrict = new HashMap<>();
+	private final int[] priceBucketCounts = new int[PropertyFacets.getPriceBucketCount()];
+	private int total;
+
+	PropertyFacetCounter(PropertyFilter filter) {
+		this.filter = filter;
+	}
+
+	/**
+	 * @param priceBucket 검색 기준 가격의 구간 번호 (가격이 없으면 음수)
+	 * @param priceMatched 검색 기준 가격이 필터의 가격 범위에 들어가는지
+	 * @param count 같은 값을 가진 매물 수
+	 */
+	void add(PropertyType propertyType, DealType dealType, String district, int priceBucket, boolean priceMatched,
+		int count) {
+		boolean typeMatched = matches(filter.getPropertyTypes(), propertyType);
+		boolean dealMatched = matches(filter.getDealTypes(), dealType);
+		boolean districtMatched = filter.getDistrict() == null || filter.getDistrict().equals(district);
+
+		int misses = (typeMatched ? 0 : 1) + (dealMatched ? 0 : 1) + (districtMatched ? 0 : 1) + (priceMatched ? 0 : 1);
+		if (misses > 1)
+			return;
+		if (misses == 0)
+			total += count;
+		if (dealMatched && districtMatched && priceMatched)
+			byPropertyType.merge(propertyType, count, Integer::sum);
+		if (typeMatched && districtMatched && priceMatched)
+			byDealType.merge(dealType, count, Integer::sum);
+		if (typeMatched && dealMatched && priceMatched)
+			byDistrict.merge(district, count, Integer::sum);
+		if (typeMatched && dealMatched && districtMatched && priceBucket >= 0)
+			priceBucketCounts[priceBucket] += count;
+	}
+
+	// 검색 기준 가격이 필터의 가격 범위에 들어가는지 (0 이하인 경계는 조건 없음)
+	boolean priceMatches(long price) {
+		return (filter.getMinPrice() <= 0 || price >= filter.getMinPrice())
+			&& (filter.getMaxPrice() <= 0 || price <= filter.getMaxPrice());
+	}
+
+	PropertyFacets result() {
+		return new PropertyFacets(total, byPropertyType, byDealType, byDistrict, priceBucketCounts);
+	}
+
+	private static <E> boolean matches(List<E> selected, E value) {
+		return selected == null || selected.isEmpty() || selected.contains(value);
+	}
+}
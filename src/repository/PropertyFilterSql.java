@@ -0,0 +1,317 @@
+package repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import domain.enums.DealType;
+import domain.enums.PropertyType;
+import dto.PropertyFacets;
+import dto.PropertyFilter;
+
+/**
+ * 매물 검색 조건(PropertyFilter)을 SQL로 바꾸는 컴파일러
+ * - 어떤 조건이 있는지(지역, 유형/거래 유형 개수, 가격 범위 종류, 페이지 조건)를 형태(shape)로 묶어
+ *   형태마다 SQL 문자열과 값 바인딩 방법(Template)을 한 번만 만들고 재사용한다.
+ * - IN 목록의 ? 개수는 1, 2, 4, 8...로 올려 잡고 남는 자리는 마지막 값으로 채우므로,
+ *   목록 길이가 조금 달라도 SQL 문자열이 같아 커넥션의 PreparedStatement 캐시를 그대로 쓴다.
+ * - IN 목록이 MAX_IN_SLOTS보다 길면 형태를 캐시하지 않고 그때그때 만든다.
+ */
+public final class PropertyFilterSql {
+	// IN 목록 크기 구간: 0(조건 없음), 1, 2, 4, 8, 16, 32, 64
+	private static final int IN_BUCKET_BITS = 3;
+	private static final int MAX_IN_SLOTS = 1 << ((1 << IN_BUCKET_BITS) - 2);
+
+	private static final int PRICE_NONE = 0;
+	private static final int PRICE_MIN = 1;
+	private static final int PRICE_MAX = 2;
+	private static final int PRICE_RANGE = 3;
+	private static final String[] PRICE_NAMES = {"none", "min", "max", "range"};
+
+	private static final int PAGE_NONE = 0;
+	private static final int PAGE_FIRST = 1;
+	private static final int PAGE_AFTER = 2;
+	private static final String[] PAGE_NAMES = {"none", "first", "after"};
+
+	// 형태 키: 지역 2비트 + 유형 구간 3비트 + 거래 유형 구간 3비트 + 가격 2비트 + 페이지 2비트
+	private static final int SHAPE_COUNT = 1 << (2 + IN_BUCKET_BITS * 2 + 2 + 2);
+	private static final AtomicReferenceArray<Template> TEMPLATES = new AtomicReferenceArray<>(SHAPE_COUNT);
+	private static final LongAdder COMPILED = new LongAdder();
+	private static final LongAdder UNCACHED = new LongAdder();
+
+	private PropertyFilterSql() {
+	}
+
+	/**
+	 * 조건에 맞는 매물 전체를 조회하는 SQL
+	 * 바인딩할 값은 SQL의 ? 순서대로 params에 추가하고, 정렬/페이지 조건을 이어 붙일 수 있도록 StringBuilder로 돌려준다.
+	 */
+	public static StringBuilder build(PropertyFilter filter, List<Object> params) {
+		Template template = compile(filter);
+		template.bindTo(params, filter);
+		return new StringBuilder(template.getSql());
+	}
+
+	// 조건에 맞는 매물 전체를 조회하는 템플릿
+	public static Template compile(PropertyFilter filter) {
+		return template(filter, PAGE_NONE);
+	}
+
+	/**
+	 * ID 오름차순으로 한 페이지를 조회하는 템플릿 (... AND id > ? ORDER BY id LIMIT ?)
+	 * @param hasCursor 이전 페이지의 마지막 ID가 있는지 (첫 페이지면 false)
+	 */
+	public static Template compilePage(PropertyFilter filter, boolean hasCursor) {
+		return template(filter, hasCursor ? PAGE_AFTER : PAGE_FIRST);
+	}
+
+	/**
+	 * 항목별 매물 수(PropertyFacets)를 한 번에 집계하는 GROUP BY 쿼리
+	 * 유형/거래 유형/군·구/가격 구간/가격 조건 만족 여부 조합마다 한 행이 나오고, 항목별 합계는 PropertyFacetCounter가 낸다.
+	 * 항목 조건은 WHERE에 넣지 않고 시/도 조건만 넣는다. (한 조건만 다른 매물도 세어야 하므로)
+	 */
+	public static String buildFacets(PropertyFilter filter, List<Object> params) {
+		StringBuilder sb = new StringBuilder("SELECT property_type, deal_type, district, ");
+		// INTERVAL(N, N1, N2, ...)은 N < N1이면 0, N1 <= N < N2이면 1 ... (NULL이면 -1)
+		sb.append("INTERVAL(effective_price");
+		for (int i = 1; i < PropertyFacets.getPriceBucketCount(); i++)
+			sb.append(", ").append(PropertyFacets.getPriceBucketMin(i));
+		sb.append(") AS price_bucket, ");
+
+		int priceMode = priceModeOf(filter);
+		if (priceMode == PRICE_RANGE)
+			sb.append("effective_price BETWEEN ? AND ?");
+		else if (priceMode == PRICE_MIN)
+			sb.append("effective_price >= ?");
+		else if (priceMode == PRICE_MAX)
+			sb.append("effective_price <= ?");
+		else
+			sb.append("TRUE");
+		if ((priceMode & PRICE_MIN) != 0)
+			params.add(filter.getMinPrice());
+		if ((priceMode & PRICE_MAX) != 0)
+			params.add(filter.getMaxPrice());
+
+		sb.append(" AS price_matched, COUNT(*) AS cnt FROM properties WHERE status != 'COMPLETED'");
+		if (filter.getCity() != null) {
+			sb.append(" AND city = ?");
+			params.add(filter.getCity());
+		}
+		sb.append(" GROUP BY property_type, deal_type, district, price_bucket, price_matched");
+		return sb.toString();
+	}
+
+	private static Template template(PropertyFilter filter, int page) {
+		int typeBucket = bucketOf(sizeOf(filter.getPropertyTypes()));
+		int dealBucket = bucketOf(sizeOf(filter.getDealTypes()));
+		if (typeBucket < 0 || dealBucket < 0) {
+			UNCACHED.increment();
+			return new Template(filter.getCity() != null, filter.getDistrict() != null,
+				sizeOf(filter.getPropertyTypes()), sizeOf(filter.getDealTypes()), priceModeOf(filter), page);
+		}
+
+		int key = (filter.getCity() != null ? 1 : 0)
+			| (filter.getDistrict() != null ? 1 << 1 : 0)
+			| typeBucket << 2
+			| dealBucket << (2 + IN_BUCKET_BITS)
+			| priceModeOf(filter) << (2 + IN_BUCKET_BITS * 2)
+			| page << (2 + IN_BUCKET_BITS * 2 + 2);
+		Template template = TEMPLATES.get(key);
+		if (template == null) {
+			template = new Template(filter.getCity() != null, filter.getDistrict() != null, slotsOf(typeBucket),
+				slotsOf(dealBucket), priceModeOf(filter), page);
+			// 동시에 만든 경우 먼저 등록된 것을 사용
+			if (TEMPLATES.compareAndSet(key, null, template))
+				COMPILED.increment();
+			else
+				template = TEMPLATES.get(key);
+		}
+		template.uses.increment();
+		return template;
+	}
+
+	private static int sizeOf(List<?> values) {
+		return values == null ? 0 : values.size();
+	}
+
+	// 0 → 0, 1 → 1, 2 → 2, 3~4 → 3, 5~8 → 4 ... (MAX_IN_SLOTS보다 크면 -1)
+	private static int bucketOf(int size) {
+		if (size == 0)
+			return 0;
+		if (size > MAX_IN_SLOTS)
+			return -1;
+		return 33 - Integer.numberOfLeadingZeros(size - 1);
+	}
+
+	private static int slotsOf(int bucket) {
+		return bucket == 0 ? 0 : 1 << (bucket - 1);
+	}
+
+	// 0 이하인 경계는 조건 없음
+	private static int priceModeOf(PropertyFilter filter) {
+		return (filter.getMinPrice() > 0 ? PRICE_MIN : 0) | (filter.getMaxPrice() > 0 ? PRICE_MAX : 0);
+	}
+
+	// ======================================= 통계 =======================================
+	// 지금까지 만들어 캐시한 형태 수
+	public static long getCompiledCount() {
+		return COMPILED.sum();
+	}
+
+	// IN 목록이 너무 길어 캐시하지 않고 만든 횟수
+	public static long getUncachedCount() {
+		return UNCACHED.sum();
+	}
+
+	/**
+	 * 형태별 사용 횟수를 많은 순으로 정리한 표
+	 * @param limit 최대 출력 개수
+	 */
+	public static String report(int limit) {
+		List<Template> templates = new ArrayList<>();
+		for (int i = 0; i < SHAPE_COUNT; i++) {
+			Template template = TEMPLATES.get(i);
+			if (template != null)
+				templates.add(template);
+		}
+		templates.sort((a, b) -> Long.compare(b.getUses(), a.getUses()));
+
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format("검색 조건 형태 %d개 (캐시하지 않은 조회 %d회)%n", templates.size(), getUncachedCount()));
+		sb.append(String.format("%10s  %s%n", "사용 횟수", "형태"));
+		for (Template template : templates.subList(0, Math.min(limit, templates.size())))
+			sb.append(String.format("%10d  %s%n", template.getUses(), template.getShape()));
+		return sb.toString();
+	}
+
+	/**
+	 * 한 형태의 SQL과 값 바인딩 방법 (만든 뒤에는 변경하지 않는다)
+	 */
+	public static final class Template {
+		private final boolean city;
+		private final boolean district;
+		private final int typeSlots;
+		private final int dealSlots;
+		private final int priceMode;
+		private final int page;
+		private final String sql;
+		private final LongAdder uses = new LongAdder();
+
+		private Template(boolean city, boolean district, int typeSlots, int dealSlots, int priceMode, int page) {
+			this.city = city;
+			this.district = district;
+			this.typeSlots = typeSlots;
+			this.dealSlots = dealSlots;
+			this.priceMode = priceMode;
+			this.page = page;
+			this.sql = buildSql();
+		}
+
+		private String buildSql() {
+			// 계약 완료가 아닌 매물만 기본으로 조회
+			StringBuilder sb = new StringBuilder("SELECT * FROM properties WHERE status != 'COMPLETED'");
+			if (city)
+				sb.append(" AND city = ?");
+			if (district)
+				sb.append(" AND district = ?");
+			if (typeSlots > 0)
+				sb.append(" AND property_type IN (").append(placeholders(typeSlots)).append(")");
+			if (dealSlots > 0)
+				sb.append(" AND deal_type IN (").append(placeholders(dealSlots)).append(")");
+
+			// 검색 기준 가격(effective_price, V3 마이그레이션의 생성 컬럼) 범위 조건 하나로 비교한다.
+			if (priceMode == PRICE_RANGE)
+				sb.append(" AND effective_price BETWEEN ? AND ?");
+			else if (priceMode == PRICE_MIN)
+				sb.append(" AND effective_price >= ?");
+			else if (priceMode == PRICE_MAX)
+				sb.append(" AND effective_price <= ?");
+
+			if (page == PAGE_AFTER)
+				sb.append(" AND id > ?");
+			if (page != PAGE_NONE)
+				sb.append(" ORDER BY id LIMIT ?");
+			return sb.toString();
+		}
+
+		private static String placeholders(int count) {
+			return String.join(",", Collections.nCopies(count, "?"));
+		}
+
+		public String getSql() {
+			return sql;
+		}
+
+		/**
+		 * 이 형태로 컴파일한 조건의 값을 바인딩
+		 * @param afterId 이전 페이지의 마지막 ID (compilePage(filter, true)로 만든 경우에만 사용)
+		 * @param limit 최대 조회 개수 (compilePage로 만든 경우에만 사용)
+		 */
+		public void bind(PreparedStatement stmt, PropertyFilter filter, Long afterId, int limit) throws SQLException {
+			int index = 1;
+			if (city)
+				stmt.setString(index++, filter.getCity());
+			if (district)
+				stmt.setString(index++, filter.getDistrict());
+			List<PropertyType> propertyTypes = filter.getPropertyTypes();
+			for (int i = 0; i < typeSlots; i++)
+				stmt.setString(index++, padded(propertyTypes, i).name());
+			List<DealType> dealTypes = filter.getDealTypes();
+			for (int i = 0; i < dealSlots; i++)
+				stmt.setString(index++, padded(dealTypes, i).name());
+			if ((priceMode & PRICE_MIN) != 0)
+				stmt.setLong(index++, filter.getMinPrice());
+			if ((priceMode & PRICE_MAX) != 0)
+				stmt.setLong(index++, filter.getMaxPrice());
+			if (page == PAGE_AFTER)
+				stmt.setLong(index++, afterId);
+			if (page != PAGE_NONE)
+				stmt.setInt(index, limit);
+		}
+
+		// build()용: 페이지 조건이 없는 형태의 값을 ? 순서대로 추가
+		private void bindTo(List<Object> params, PropertyFilter filter) {
+			if (city)
+				params.add(filter.getCity());
+			if (district)
+				params.add(filter.getDistrict());
+			for (int i = 0; i < typeSlots; i++)
+				params.add(padded(filter.getPropertyTypes(), i).name());
+			for (int i = 0; i < dealSlots; i++)
+				params.add(padded(filter.getDealTypes(), i).name());
+			if ((priceMode & PRICE_MIN) != 0)
+				params.add(filter.getMinPrice());
+			if ((priceMode & PRICE_MAX) != 0)
+				params.add(filter.getMaxPrice());
+		}
+
+		// 남는 자리는 마지막 값으로 채운다. (IN 조건의 결과는 같다)
+		private static <T> T padded(List<T> values, int index) {
+			return values.get(Math.min(index, values.size() - 1));
+		}
+
+		public long getUses() {
+			return uses.sum();
+		}
+
+		// 예: city,district,types[2],deals[1],price=range,page=after
+		public String getShape() {
+			List<String> parts = new ArrayList<>();
+			if (city)
+				parts.add("city");
+			if (district)
+				parts.add("district");
+			if (typeSlots > 0)
+				parts.add("types[" + typeSlots + "]");
+			if (dealSlots > 0)
+				parts.add("deals[" + dealSlots + "]");
+			parts.add("price=" + PRICE_NAMES[priceMode]);
+			parts.add("page=" + PAGE_NAMES[page]);
+			return String.join(",", parts);
+		}
+	}
+}
@@ -1,24 +1,62 @@
 package repository;
 
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import config.DBConnectionManager;
+import config.TransactionManager;
 import domain.Location;
-import domain.Price;
 import domain.Property;
 import domain.enums.DealType;
 import domain.enums.PropertyType;
+import dto.BatchResult;
+import dto.PropertyFacets;
 import dto.PropertyFilter;
+import exception.CustomException;
+import exception.ErrorCode;
 
 public class PropertyRepository {
+	private static final String INSERT_SQL = "INSERT INTO properties (owner_id, city, district, deposit, monthly_rent, property_type, deal_type, status) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+	// 한 번의 배치로 보내는 최대 행 수
+	private static final int INSERT_BATCH_SIZE = 500;
+	// findById 캐시 기본 설정 (약 4MB, 1분)
+	private static final long DEFAULT_CACHE_WEIGHT_BYTES = 4L * 1024 * 1024;
+	private static final long DEFAULT_CACHE_TTL_MILLIS = 60_000;
+
+	private final PropertyCache cache;
+	// findByFilter 메모리 인덱스 (PROPERTY_INDEX_ENABLED=true가 아니면 null)
+	private final PropertySearchIndex searchIndex;
+
+	public PropertyRepository() {
+		this(new PropertyCache(DEFAULT_CACHE_WEIGHT_BYTES, DEFAULT_CACHE_TTL_MILLIS), PropertySearchIndex.fromEnv());
+	}
+
+	public PropertyRepository(PropertyCache cache) {
+		this(cache, null);
+	}
+
+	public PropertyRepository(PropertyCache cache, PropertySearchIndex searchIndex) {
+		this.cache = cache;
+		this.searchIndex = searchIndex;
+	}
+
 	public Property save(Property property) {
 		if (property.getId() == null)
 			return insert(property);
@@ -27,31 +65,119 @@ public class PropertyRepository {
 	}
 
 	private Property insert(Property property) {
-		String sql = "INSERT INTO properties (owner_id, city, district, deposit, monthly_rent, property_type, deal_type, status) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
 		try (Connection conn = DBConnectionManager.getConnection();
-			 PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-			stmt.setLong(1, property.getOwnerId());
-			stmt.setString(2, property.getLocation().getCity());
-			stmt.setString(3, property.getLocation().getDistrict());
-			stmt.setLong(4, property.getPrice().getDeposit());
-			stmt.setLong(5, property.getPrice().getMonthlyRent());
-			stmt.setString(6, property.getPropertyType().name());
-			stmt.setString(7, property.getDealType().name());
-			stmt.setString(8, property.getStatus().name());
+			 PreparedStatement stmt = conn.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+			bindInsert(stmt, property);
 			stmt.executeUpdate();
 
 			try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
 				if (generatedKeys.next())
 					property.setId(generatedKeys.getLong(1));
 			}
+			refreshIndex(List.of(property.getId()));
 			return property;
 		} catch (SQLException e) {
 			throw new RuntimeException("매물 저장에 실패했습니다.");
 		}
 	}
 
+	/**
+	 * 여러 매물을 JDBC 배치로 한 번에 저장 (rewriteBatchedStatements 설정 시 다중 행 INSERT로 전송)
+	 * 배치가 실패하면 해당 묶음만 한 건씩 다시 저장하여 실패한 행만 골라낸다.
+	 * 바깥 트랜잭션 안에서 호출되었다면 실패한 묶음이 롤백되었는지 알 수 없으므로 다시 시도하지 않고
+	 * RuntimeException을 던진다. (바깥 트랜잭션이 전체를 롤백한다)
+	 * @param properties 저장할 매물 목록
+	 * @return 목록 순번별 저장 결과 (성공한 매물에는 생성된 ID가 채워진다)
+	 */
+	public BatchResult<Integer, Property> insertAll(List<Property> properties) {
+		BatchResult<Integer, Property> result = new BatchResult<>();
+		for (int from = 0; from < properties.size(); from += INSERT_BATCH_SIZE) {
+			int to = Math.min(from + INSERT_BATCH_SIZE, properties.size());
+			try {
+				insertChunk(properties.subList(from, to));
+				for (int i = from; i < to; i++)
+					result.addSuccess(i, properties.get(i));
+			} catch (BatchUpdateException e) {
+				// 어느 행 때문에 실패했는지 알 수 있도록 한 건씩 다시 시도
+				for (int i = from; i < to; i++) {
+					try {
+						result.addSuccess(i, insert(properties.get(i)));
+					} catch (RuntimeException rowFailure) {
+						result.addFailure(i, rowFailure);
+					}
+				}
+			} catch (SQLException e) {
+				RuntimeException failure = new RuntimeException("매물 일괄 저장에 실패했습니다.", e);
+				for (int i = from; i < to; i++)
+					result.addFailure(i, failure);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 한 묶음은 전부 저장되거나 전부 취소되도록 커밋한다. (이미 트랜잭션 안이면 그 트랜잭션을 따른다)
+	 * 트랜잭션 안에서 실패하면 다시 시도하지 않도록 SQLException 대신 RuntimeException을 던진다.
+	 */
+	private void insertChunk(List<Property> chunk) throws SQLException {
+		try (Connection conn = DBConnectionManager.getConnection()) {
+			boolean ownCommit = conn.getAutoCommit();
+			if (ownCommit)
+				conn.setAutoCommit(false);
+			try (PreparedStatement stmt = conn.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+				for (Property property : chunk) {
+					bindInsert(stmt, property);
+					stmt.addBatch();
+				}
+				stmt.executeBatch();
+
+				// 생성된 키는 입력 순서대로 반환된다.
+				try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+					for (Property property : chunk) {
+						if (!generatedKeys.next())
+							throw new SQLException("생성된 매물 ID의 개수가 저장한 행 수보다 적습니다.");
+						property.setId(generatedKeys.getLong(1));
+					}
+				}
+				if (ownCommit)
+					conn.commit();
+				List<Long> ids = new ArrayList<>(chunk.size());
+				for (Property property : chunk)
+					ids.add(property.getId());
+				refreshIndex(ids);
+			} catch (SQLException e) {
+				for (Property property : chunk)
+					property.setId(null);
+				if (!ownCommit)
+					throw new RuntimeException("매물 일괄 저장에 실패했습니다.", e);
+				conn.rollback();
+				throw e;
+			} finally {
+				if (ownCommit)
+					conn.setAutoCommit(true);
+			}
+		}
+	}
+
+	private void bindInsert(PreparedStatement stmt, Property property) throws SQLException {
+		stmt.setLong(1, property.getOwnerId());
+		stmt.setString(2, property.getLocation().getCity());
+		stmt.setString(3, property.getLocation().getDistrict());
+		stmt.setLong(4, property.getPrice().getDeposit());
+		stmt.setLong(5, property.getPrice().getMonthlyRent());
+		stmt.setString(6, property.getPropertyType().name());
+		stmt.setString(7, property.getDealType().name());
+		stmt.setString(8, property.getStatus().name());
+	}
+
+	/**
+	 * 조회했을 때의 버전과 DB의 버전이 같을 때만 수정 (낙관적 락)
+	 * 그 사이 다른 사용자가 수정했다면 덮어쓰지 않고 CONCURRENT_MODIFICATION 예외를 던진다.
+	 */
 	private Property update(Property property) {
-		String sql = "UPDATE properties SET deposit = ?, monthly_rent = ?, deal_type = ?, status = ? WHERE id = ?";
+		String sql = "UPDATE properties SET deposit = ?, monthly_rent = ?, deal_type = ?, status = ?, " +
+			"version = version + 1 WHERE id = ? AND version = ?";
+		int updatedRows;
 		try (Connection conn = DBConnectionManager.getConnection();
 			 PreparedStatement stmt = conn.prepareStatement(sql)) {
 			stmt.setLong(1, property.getPrice().getDeposit());
@@ -59,21 +185,36 @@ public class PropertyRepository {
 			stmt.setString(3, property.getDealType().name());
 			stmt.setString(4, property.getStatus().name());
 			stmt.setLong(5, property.getId());
-			stmt.executeUpdate();
-			return property;
+			stmt.setLong(6, property.getVersion());
+			updatedRows = stmt.executeUpdate();
+			evictFromCache(property.getId());
+			refreshIndex(List.of(property.getId()));
 		} catch (SQLException e) {
 			throw new RuntimeException("매물 수정에 실패했습니다.");
 		}
+
+		if (updatedRows == 0)
+			throw new CustomException(ErrorCode.CONCURRENT_MODIFICATION);
+		property.setVersion(property.getVersion() + 1);
+		return property;
 	}
 
 	public Optional<Property> findById(Long id) {
+		Property cached = cache.get(id);
+		if (cached != null)
+			return Optional.of(cached);
+
+		long stamp = cache.currentStamp();
 		String sql = "SELECT * FROM properties WHERE id = ?";
 		try (Connection conn = DBConnectionManager.getConnection();
 			 PreparedStatement stmt = conn.prepareStatement(sql)) {
 			stmt.setLong(1, id);
 			try (ResultSet rs = stmt.executeQuery()) {
-				if (rs.next())
-					return Optional.of(mapProperty(rs));
+				if (rs.next()) {
+					Property property = RowMappers.mapProperty(rs);
+					cacheIfCommitted(property, stamp);
+					return Optional.of(property);
+				}
 			}
 		} catch (SQLException e) {
 			throw new RuntimeException("ID로 매물 조회에 실패했습니다.");
@@ -81,24 +222,135 @@ public class PropertyRepository {
 		return Optional.empty();
 	}
 
+	/**
+	 * 여러 매물을 IN 쿼리 한 번으로 조회
+	 * @param ids 조회할 매물 ID 목록
+	 * @return 매물 ID를 키로 하는 조회 결과 (존재하지 않는 ID는 포함되지 않는다)
+	 */
+	public Map<Long, Property> findByIds(Collection<Long> ids) {
+		Map<Long, Property> properties = new LinkedHashMap<>();
+		if (ids == null || ids.isEmpty())
+			return properties;
+
+		// 캐시에 있는 매물은 제외하고 나머지만 조회
+		List<Long> missingIds = new ArrayList<>();
+		for (Long id : ids) {
+			Property cached = cache.get(id);
+			if (cached != null)
+				properties.put(id, cached);
+			else
+				missingIds.add(id);
+		}
+		if (missingIds.isEmpty())
+			return properties;
+
+		long stamp = cache.currentStamp();
+		String sql = "SELECT * FROM properties WHERE id IN (" +
+			String.join(",", Collections.nCopies(missingIds.size(), "?")) + ")";
+		try (Connection conn = DBConnectionManager.getConnection();
+			 PreparedStatement stmt = conn.prepareStatement(sql)) {
+			int index = 1;
+			for (Long id : missingIds)
+				stmt.setLong(index++, id);
+			try (ResultSet rs = stmt.executeQuery()) {
+				while (rs.next()) {
+					Property property = RowMappers.mapProperty(rs);
+					cacheIfCommitted(property, stamp);
+					properties.put(property.getId(), property);
+				}
+			}
+		} catch (SQLException e) {
+			throw new RuntimeException("ID 목록으로 매물 조회에 실패했습니다.");
+		}
+		return properties;
+	}
+
 	public List<Property> findByFilter(PropertyFilter filter) {
-		// 계약 완료가 아닌 매물만 기본으로 조회
-		StringBuilder sb = new StringBuilder("SELECT * FROM properties WHERE status != 'COMPLETED'");
-		List<Object> params = new ArrayList<>();
-		filterByLocation(sb, params, filter);
-		filterByPropertyTypes(sb, params, filter);
-		filterByDealTypes(sb, params, filter);
-		filterByPrice(sb, params, filter);
+		if (useIndex())
+			return searchIndex.search(filter, null, 0);
+		return queryProperties(PropertyFilterSql.compile(filter), filter, null, 0);
+	}
 
+	/**
+	 * 필터 조건에 맞는 매물을 ID 오름차순으로 한 페이지만 조회 (키셋 페이지네이션)
+	 * OFFSET 대신 마지막으로 본 ID 이후부터 읽으므로 뒤쪽 페이지도 조회 비용이 같다.
+	 * @param filter 조회 조건
+	 * @param afterId 이전 페이지의 마지막 매물 ID (첫 페이지는 null)
+	 * @param limit 최대 조회 개수
+	 * @return ID 오름차순으로 정렬된 매물 목록
+	 */
+	public List<Property> findByFilter(PropertyFilter filter, Long afterId, int limit) {
+		if (useIndex())
+			return searchIndex.search(filter, afterId, limit);
+		return queryProperties(PropertyFilterSql.compilePage(filter, afterId != null), filter, afterId, limit);
+	}
+
+	/**
+	 * 필터 조건에 맞는 매물을 서버 측 커서로 fetchSize 건씩 읽어오는 스트림
+	 * 결과 전체를 메모리에 올리지 않으므로 대량 조회(내보내기, 배치 작업)에 사용한다.
+	 * 스트림이 커넥션을 점유하므로 반드시 close() 해야 한다. (try-with-resources 사용)
+	 * @param filter 조회 조건
+	 * @param fetchSize 한 번에 DB에서 가져올 행 수
+	 * @return 조건에 맞는 매물 스트림
+	 */
+	public Stream<Property> streamByFilter(PropertyFilter filter, int fetchSize) {
+		PropertyFilterSql.Template template = PropertyFilterSql.compile(filter);
+
+		Connection conn = DBConnectionManager.getConnection();
+		PreparedStatement stmt = null;
+		ResultSet rs = null;
+		try {
+			stmt = conn.prepareStatement(template.getSql(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+			stmt.setFetchSize(fetchSize);
+			template.bind(stmt, filter, null, 0);
+			rs = stmt.executeQuery();
+		} catch (SQLException e) {
+			closeQuietly(rs, stmt, conn);
+			throw new RuntimeException("필터로 매물 스트림 조회에 실패했습니다.");
+		}
+
+		ResultSet resultSet = rs;
+		PreparedStatement statement = stmt;
+		Spliterator<Property> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+			Spliterator.ORDERED | Spliterator.NONNULL) {
+			@Override
+			public boolean tryAdvance(Consumer<? super Property> action) {
+				try {
+					if (!resultSet.next())
+						return false;
+					action.accept(RowMappers.mapProperty(resultSet));
+					return true;
+				} catch (SQLException e) {
+					throw new RuntimeException("매물 스트림 조회 중 오류가 발생했습니다.", e);
+				}
+			}
+		};
+		return StreamSupport.stream(spliterator, false)
+			.onClose(() -> closeQuietly(resultSet, statement, conn));
+	}
+
+	private void closeQuietly(AutoCloseable... resources) {
+		for (AutoCloseable resource : resources) {
+			if (resource == null)
+				continue;
+			try {
+				resource.close();
+			} catch (Exception e) {
+				// 정리 중 오류는 무시
+			}
+		}
+	}
+
+	private List<Property> queryProperties(PropertyFilterSql.Template template, PropertyFilter filter, Long afterId,
+		int limit) {
 		List<Property> result = new ArrayList<>();
 		try (Connection conn = DBConnectionManager.getConnection();
-			 PreparedStatement stmt = conn.prepareStatement(sb.toString())) {
-			for (int i = 0; i < params.size(); i++)
-				stmt.setObject(i + 1, params.get(i));
+			 PreparedStatement stmt = conn.prepareStatement(template.getSql())) {
+			template.bind(stmt, filter, afterId, limit);
 
 			try (ResultSet rs = stmt.executeQuery()) {
 				while (rs.next())
-					result.add(mapProperty(rs));
+					result.add(RowMappers.mapProperty(rs));
 			}
 		} catch (SQLException e) {
 			throw new RuntimeException("필터로 매물 조회에 실패했습니다.");
@@ -106,65 +358,55 @@ public class PropertyRepository {
 		return result;
 	}
 
-	private void filterByLocation(StringBuilder sb, List<Object> params, PropertyFilter filter) {
-		if (filter.getCity() != null) {
-			sb.append(" AND city = ?");
-			params.add(filter.getCity());
-		}
-		if (filter.getDistrict() != null) {
-			sb.append(" AND district = ?");
-			params.add(filter.getDistrict());
-		}
-	}
+	/**
+	 * 필터 조건을 좁힐 때 보여줄 항목별(유형, 거래 유형, 군/구, 가격 구간) 매물 수
+	 * 검색 인덱스를 사용하면 메모리에서 한 번 훑어 집계하고, 아니면 GROUP BY 쿼리 한 번으로 집계한다.
+	 */
+	public PropertyFacets countFacets(PropertyFilter filter) {
+		if (useIndex())
+			return searchIndex.facets(filter);
 
-	private void filterByPropertyTypes(StringBuilder sb, List<Object> params, PropertyFilter filter) {
-		List<PropertyType> propertyTypes = filter.getPropertyTypes();
-		if (propertyTypes != null && !propertyTypes.isEmpty()) {
-			sb.append(" AND property_type IN (");
-			sb.append(String.join(",", Collections.nCopies(propertyTypes.size(), "?")));
-			sb.append(")");
-			for (PropertyType type : propertyTypes)
-				params.add(type.name());
+		List<Object> params = new ArrayList<>();
+		String sql = PropertyFilterSql.buildFacets(filter, params);
+		PropertyFacetCounter counter = new PropertyFacetCounter(filter);
+		try (Connection conn = DBConnectionManager.getConnection();
+			 PreparedStatement stmt = conn.prepareStatement(sql)) {
+			for (int i = 0; i < params.size(); i++)
+				stmt.setObject(i + 1, params.get(i));
+			try (ResultSet rs = stmt.executeQuery()) {
+				while (rs.next()) {
+					counter.add(PropertyType.valueOf(rs.getString("property_type")),
+						DealType.valueOf(rs.getString("deal_type")), rs.getString("district"),
+						rs.getInt("price_bucket"), rs.getBoolean("price_matched"), rs.getInt("cnt"));
+				}
+			}
+		} catch (SQLException e) {
+			throw new RuntimeException("항목별 매물 수 조회에 실패했습니다.");
 		}
+		return counter.result();
 	}
 
-	private void filterByDealTypes(StringBuilder sb, List<Object> params, PropertyFilter filter) {
-		List<DealType> dealTypes = filter.getDealTypes();
-		if (dealTypes != null && !dealTypes.isEmpty()) {
-			sb.append(" AND deal_type IN (");
-			sb.append(String.join(",", Collections.nCopies(dealTypes.size(), "?")));
-			sb.append(")");
-			for (DealType type : dealTypes)
-				params.add(type.name());
-		}
-	}
+	/**
+	 * 시/군·구별 검색 대상(계약 완료가 아닌) 매물 수
+	 * 검색 인덱스를 사용하면 메모리에서 바로 돌려주고, 아니면 GROUP BY로 집계한다.
+	 * @return 지역별 매물 수 (매물이 없는 지역은 포함되지 않는다)
+	 */
+	public Map<Location, Integer> countAvailableByRegion() {
+		if (useIndex())
+			return searchIndex.countByRegion();
 
-	private void filterByPrice(StringBuilder sb, List<Object> params, PropertyFilter filter) {
-		long minPrice = filter.getMinPrice();
-		long maxPrice = filter.getMaxPrice();
-
-		// 가격 조건이 없으면 아무것도 하지 않음
-		if (minPrice <= 0 && maxPrice <= 0)
-			return;
-
-		if (minPrice > 0 && maxPrice > 0) {
-			sb.append(
-				" AND ((deal_type = 'MONTHLY' AND monthly_rent BETWEEN ? AND ?) OR (deal_type != 'MONTHLY' AND deposit BETWEEN ? AND ?))");
-			params.add(minPrice);
-			params.add(maxPrice);
-			params.add(minPrice);
-			params.add(maxPrice);
-		} else if (minPrice > 0) {
-			sb.append(
-				" AND ((deal_type = 'MONTHLY' AND monthly_rent >= ?) OR (deal_type != 'MONTHLY' AND deposit >= ?))");
-			params.add(minPrice);
-			params.add(minPrice);
-		} else { // maxPrice > 0
-			sb.append(
-				" AND ((deal_type = 'MONTHLY' AND monthly_rent <= ?) OR (deal_type != 'MONTHLY' AND deposit <= ?))");
-			params.add(maxPrice);
-			params.add(maxPrice);
+		String sql = "SELECT city, district, COUNT(*) AS cnt FROM properties WHERE status != 'COMPLETED' " +
+			"GROUP BY city, district";
+		Map<Location, Integer> counts = new HashMap<>();
+		try (Connection conn = DBConnectionManager.getConnection();
+			 PreparedStatement stmt = conn.prepareStatement(sql);
+			 ResultSet rs = stmt.executeQuery()) {
+			while (rs.next())
+				counts.put(new Location(rs.getString("city"), rs.getString("district")), rs.getInt("cnt"));
+		} catch (SQLException e) {
+			throw new RuntimeException("지역별 매물 수 조회에 실패했습니다.");
 		}
+		return counts;
 	}
 
 	// 소유자 ID로 매물 조회
@@ -176,7 +418,7 @@ public class PropertyRepository {
 			stmt.setLong(1, ownerId);
 			try (ResultSet rs = stmt.executeQuery()) {
 				while (rs.next())
-					properties.add(mapProperty(rs));
+					properties.add(RowMappers.mapProperty(rs));
 			}
 		} catch (SQLException e) {
 			throw new RuntimeException("소유자 ID로 매물 조회에 실패했습니다.");
@@ -190,6 +432,8 @@ public class PropertyRepository {
 			 PreparedStatement stmt = conn.prepareStatement(sql)) {
 			stmt.setLong(1, id);
 			stmt.executeUpdate();
+			evictFromCache(id);
+			refreshIndex(List.of(id));
 		} catch (SQLException e) {
 			throw new RuntimeException("매물 삭제에 실패했습니다.");
 		}
@@ -201,28 +445,49 @@ public class PropertyRepository {
 	 * @return 업데이트된 행의 수 (1이면 성공, 0이면 이미 COMPLETED 상태)
 	 */
 	public int updateStatusToCompleted(Long propertyId) {
-		String sql = "UPDATE properties SET status = 'COMPLETED' WHERE id = ? AND status = 'IN_CONTRACT'";
+		String sql = "UPDATE properties SET status = 'COMPLETED', version = version + 1 " +
+			"WHERE id = ? AND status = 'IN_CONTRACT'";
 		try (Connection conn = DBConnectionManager.getConnection();
 			 PreparedStatement stmt = conn.prepareStatement(sql)) {
 			stmt.setLong(1, propertyId);
-			return stmt.executeUpdate();
+			int updatedRows = stmt.executeUpdate();
+			evictFromCache(propertyId);
+			if (updatedRows > 0)
+				refreshIndex(List.of(propertyId));
+			return updatedRows;
 		} catch (SQLException e) {
 			throw new RuntimeException("매물 상태 변경에 실패했습니다.");
 		}
 	}
 
-	private Property mapProperty(ResultSet rs) throws SQLException {
-		// DB 조회 결과를 Property 객체로 변환
-		Location location = new Location(rs.getString("city"), rs.getString("district"));
-		Price price = new Price(rs.getLong("deposit"), rs.getLong("monthly_rent"));
+	public PropertyCache getCache() {
+		return cache;
+	}
+
+	public PropertySearchIndex getSearchIndex() {
+		return searchIndex;
+	}
+
+	// 트랜잭션 안에서 읽은 값은 롤백될 수 있으므로 캐시하지 않는다.
+	private void cacheIfCommitted(Property property, long stamp) {
+		if (!TransactionManager.isActive())
+			cache.put(property, stamp);
+	}
+
+	// 수정 즉시 제거하고, 트랜잭션이 끝난 뒤에도 한 번 더 제거하여 커밋 전 값이 다시 캐시되지 않도록 한다.
+	private void evictFromCache(Long id) {
+		cache.invalidate(id);
+		TransactionManager.runAfterCompletion(() -> cache.invalidate(id));
+	}
+
+	// 트랜잭션 안에서는 아직 커밋되지 않은 변경이 인덱스에 없으므로 DB에서 조회한다.
+	private boolean useIndex() {
+		return searchIndex != null && !TransactionManager.isActive();
+	}
 
-		return new Property(
-			rs.getLong("id"),
-			rs.getLong("owner_id"),
-			location,
-			price,
-			PropertyType.valueOf(rs.getString("property_type")),
-			DealType.valueOf(rs.getString("deal_type"))
-		);
+	// 커밋된 값만 인덱스에 반영되도록 트랜잭션이 끝난 뒤 다시 읽는다.
+	private void refreshIndex(Collection<Long> ids) {
+		if (searchIndex != null)
+			TransactionManager.runAfterCompletion(() -> searchIndex.refresh(ids));
 	}
 }
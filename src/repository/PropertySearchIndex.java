@@ -0,0 +1,556 @@
+package repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import config.DBConnectionManager;
+import domain.Location;
+import domain.Property;
+import domain.enums.DealType;
+import domain.enums.PropertyStatus;
+import domain.enums.PropertyType;
+import dto.PropertyFacets;
+import dto.PropertyFilter;
+
+/**
+ * PropertyRepository.findByFilter를 DB 대신 메모리에서 처리하는 매물 검색 인덱스
+ * - 매물마다 ID 오름차순으로 행 번호를 붙이고, 유형/거래 유형/상태/시/군·구 값마다 해당 행들의 BitSet을 둔다.
+ * - 가격 조건은 검색 기준 금액(Property.getEffectivePrice)으로 정렬한 배열에서 이분 탐색한다.
+ * - 인덱스 전체는 변경할 수 없는 스냅샷으로 AtomicReference에 두므로 검색은 락 없이 실행된다.
+ * - 매물이 저장되면 트랜잭션이 끝난 뒤 ID만 모아 두고, 다음 검색에서 모인 매물을 한 번에 DB에서 다시 읽어
+ *   새 스냅샷을 만든다. (저장이 여러 번이어도 스냅샷은 한 번만 복사하고, 모인 매물이 많으면 전체를 다시 읽는다)
+ *
+ * - 시/군·구별 검색 대상 매물 수도 변경된 매물만큼 더하고 빼서 함께 유지한다.
+ *
+ * 같은 PropertyRepository를 거친 변경만 바로 반영되므로, 다른 노드나 SQL로 직접 수정한 내용은
+ * ttlMillis가 지나 전체를 다시 읽을 때 반영된다. (바로 반영하려면 rebuild() 호출)
+ * 검색 결과는 SQL 검색과 같이 계약 완료가 아닌 매물을 ID 오름차순으로 돌려준다.
+ */
+public class PropertySearchIndex {
+	private static final String SELECT_SQL = "SELECT * FROM properties";
+	private static final long DEFAULT_TTL_SECONDS = 60;
+	// 한 번에 IN 조건으로 다시 읽는 최대 매물 수
+	private static final int LOAD_CHUNK_SIZE = 1000;
+	// 다시 읽을 매물이 전체의 1/n을 넘으면 전체를 다시 읽는다.
+	private static final int FULL_RELOAD_RATIO = 4;
+
+	private final long ttlMillis;
+	private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+	// 저장/수정/삭제되었지만 아직 스냅샷에 반영하지 않은 매물 ID
+	private final Set<Long> pendingIds = ConcurrentHashMap.newKeySet();
+	// 만료된 스냅샷을 한 스레드만 다시 읽도록 표시
+	private final AtomicBoolean reloading = new AtomicBoolean();
+
+	/**
+	 * @param ttlMillis 전체 매물을 읽은 뒤 다시 읽기까지의 시간 (0 이하이면 다시 읽지 않음)
+	 */
+	public PropertySearchIndex(long ttlMillis) {
+		this.ttlMillis = ttlMillis;
+	}
+
+	/**
+	 * 환경 변수 PROPERTY_INDEX_ENABLED가 true일 때만 인덱스를 만든다.
+	 * - PROPERTY_INDEX_TTL_SECONDS: 전체를 다시 읽는 주기 (기본 60초)
+	 * @return 사용하도록 설정되지 않았으면 null
+	 */
+	public static PropertySearchIndex fromEnv() {
+		if (!"true".equalsIgnoreCase(System.getenv("PROPERTY_INDEX_ENABLED")))
+			return null;
+		long ttlSeconds = DEFAULT_TTL_SECONDS;
+		String value = System.getenv("PROPERTY_INDEX_TTL_SECONDS");
+		if (value != null && !value.isBlank()) {
+			try {
+				ttlSeconds = Long.parseLong(value.trim());
+			} catch (NumberFormatException e) {
+				throw new RuntimeException("환경 변수 PROPERTY_INDEX_TTL_SECONDS의 값이 올바르지 않습니다: " + value);
+			}
+		}
+		return new PropertySearchIndex(ttlSeconds * 1000);
+	}
+
+	/**
+	 * 필터 조건에 맞는 매물을 ID 오름차순으로 조회 (처음 호출할 때 전체 매물을 읽어 인덱스를 만든다)
+	 * @param afterId 이 ID 다음부터 조회 (null이면 처음부터)
+	 * @param limit 최대 조회 개수 (0 이하이면 전부)
+	 * @return 호출한 쪽이 수정해도 인덱스에 영향이 없는 복사본 목록
+	 */
+	public List<Property> search(PropertyFilter filter, Long afterId, int limit) {
+		Snapshot current = loadedSnapshot();
+		BitSet matched = current.match(filter);
+
+		List<Property> result = new ArrayList<>();
+		int row = afterId == null ? 0 : current.firstRowAfter(afterId);
+		for (row = matched.nextSetBit(row); row >= 0; row = matched.nextSetBit(row + 1)) {
+			result.add(copy(current.rows[row]));
+			if (limit > 0 && result.size() >= limit)
+				break;
+		}
+		return result;
+	}
+
+	/**
+	 * 필터 조건에 대한 항목별 매물 수를 시/도에 속한 검색 대상 매물을 한 번씩만 훑어 집계
+	 * @see PropertyFacetCounter
+	 */
+	public PropertyFacets facets(PropertyFilter filter) {
+		Snapshot current = loadedSnapshot();
+		BitSet candidates = current.searchableIn(filter.getCity());
+
+		PropertyFacetCounter counter = new PropertyFacetCounter(filter);
+		for (int row = candidates.nextSetBit(0); row >= 0; row = candidates.nextSetBit(row + 1)) {
+			Property property = current.rows[row];
+			long price = property.getEffectivePrice();
+			counter.add(property.getPropertyType(), property.getDealType(), property.getLocation().getDistrict(),
+				PropertyFacets.priceBucketOf(price), counter.priceMatches(price), 1);
+		}
+		return counter.result();
+	}
+
+	/**
+	 * 시/군·구별 검색 대상(계약 완료가 아닌) 매물 수
+	 * @return 변경할 수 없는 맵 (매물이 없는 지역은 포함되지 않는다)
+	 */
+	public Map<Location, Integer> countByRegion() {
+		return loadedSnapshot().regionCounts;
+	}
+
+	// 전체 매물을 DB에서 다시 읽는다.
+	public synchronized void rebuild() {
+		reloadAll();
+	}
+
+	/**
+	 * 저장/수정/삭제된 매물을 다음 검색에서 DB에서 다시 읽도록 표시한다. (트랜잭션이 끝난 뒤 호출)
+	 * 락을 잡지 않으므로 일괄 저장 중 묶음마다 호출해도 스냅샷을 복사하지 않는다.
+	 */
+	void refresh(Collection<Long> ids) {
+		pendingIds.addAll(ids);
+	}
+
+	public int size() {
+		Snapshot current = snapshot.get();
+		return current == null ? 0 : current.size;
+	}
+
+	/**
+	 * 현재 스냅샷 (없으면 전체 매물을 읽어 만든다)
+	 * 만료되었으면 한 스레드가 다시 읽고, 그동안 다른 검색은 만료된 스냅샷을 그대로 쓴다.
+	 */
+	private Snapshot loadedSnapshot() {
+		Snapshot current = snapshot.get();
+		if (current != null && !isExpired(current)) {
+			if (pendingIds.isEmpty())
+				return current;
+			// 저장한 뒤의 검색에서는 저장한 매물이 보이도록 모인 변경을 먼저 반영
+			synchronized (this) {
+				return applyPending();
+			}
+		}
+		boolean reloadingByThis = current != null && reloading.compareAndSet(false, true);
+		if (current != null && !reloadingByThis)
+			return current;
+		try {
+			synchronized (this) {
+				current = snapshot.get();
+				if (current == null || isExpired(current))
+					current = reloadAll();
+				return applyPending();
+			}
+		} finally {
+			if (reloadingByThis)
+				reloading.set(false);
+		}
+	}
+
+	// 모인 변경을 반영한 스냅샷 (락을 잡은 상태에서 호출, null을 반환하지 않는다)
+	private Snapshot applyPending() {
+		Snapshot current = snapshot.get();
+		// 락을 기다리는 동안 다른 검색이 갱신에 실패해 스냅샷을 비웠으면 전체를 다시 읽는다.
+		if (current == null)
+			return reloadAll();
+		if (pendingIds.isEmpty())
+			return current;
+		if (pendingIds.size() * FULL_RELOAD_RATIO > current.size)
+			return reloadAll();
+
+		List<Long> ids = drainPending();
+		try {
+			List<Property> changed = new ArrayList<>(ids.size());
+			for (int from = 0; from < ids.size(); from += LOAD_CHUNK_SIZE)
+				changed.addAll(loadByIds(ids.subList(from, Math.min(from + LOAD_CHUNK_SIZE, ids.size()))));
+			current = current.with(changed);
+			snapshot.set(current);
+			return current;
+		} catch (RuntimeException e) {
+			// 다시 읽지 못한 변경이 빠지지 않도록 다음 검색에서 전체를 다시 읽는다.
+			snapshot.set(null);
+			throw e;
+		}
+	}
+
+	// 전체 매물을 다시 읽는다. (락을 잡은 상태에서 호출, 읽기 전에 모인 변경은 함께 반영된다)
+	private Snapshot reloadAll() {
+		List<Long> drained = drainPending();
+		try {
+			Snapshot loaded = Snapshot.build(loadAll(), System.currentTimeMillis());
+			snapshot.set(loaded);
+			return loaded;
+		} catch (RuntimeException e) {
+			pendingIds.addAll(drained);
+			throw e;
+		}
+	}
+
+	// 지금까지 모인 ID를 꺼낸다. (꺼내는 도중 추가된 ID는 다음에 반영)
+	private List<Long> drainPending() {
+		List<Long> ids = new ArrayList<>(pendingIds.size());
+		for (Long id : pendingIds) {
+			if (pendingIds.remove(id))
+				ids.add(id);
+		}
+		return ids;
+	}
+
+	private boolean isExpired(Snapshot current) {
+		return ttlMillis > 0 && System.currentTimeMillis() - current.loadedAt > ttlMillis;
+	}
+
+	// ======================================= DB 조회 =======================================
+	private List<Property> loadAll() {
+		try (Connection conn = DBConnectionManager.getConnection();
+			 PreparedStatement stmt = conn.prepareStatement(SELECT_SQL + " ORDER BY id")) {
+			return readAll(stmt);
+		} catch (SQLException e) {
+			throw new RuntimeException("매물 검색 인덱스 생성에 실패했습니다.");
+		}
+	}
+
+	private List<Property> loadByIds(Collection<Long> ids) {
+		String sql = SELECT_SQL + " WHERE id IN (" + String.join(",", Collections.nCopies(ids.size(), "?")) + ")";
+		try (Connection conn = DBConnectionManager.getConnection();
+			 PreparedStatement stmt = conn.prepareStatement(sql)) {
+			int index = 1;
+			for (Long id : ids)
+				stmt.setLong(index++, id);
+			return readAll(stmt);
+		} catch (SQLException e) {
+			throw new RuntimeException("매물 검색 인덱스 갱신에 실패했습니다.");
+		}
+	}
+
+	private List<Property> readAll(PreparedStatement stmt) throws SQLException {
+		List<Property> properties = new ArrayList<>();
+		try (ResultSet rs = stmt.executeQuery()) {
+			while (rs.next()) {
+				properties.add(RowMappers.mapProperty(rs));
+			}
+		}
+		return properties;
+	}
+
+	private static Property copy(Property source) {
+		Property copied = new Property(source.getId(), source.getOwnerId(), source.getLocation(), source.getPrice(),
+			source.getPropertyType(), source.getDealType());
+		copied.setStatus(source.getStatus());
+		copied.setVersion(source.getVersion());
+		return copied;
+	}
+
+	/**
+	 * 한 시점의 인덱스 (만든 뒤에는 변경하지 않는다)
+	 */
+	private static class Snapshot {
+		// 전체 매물을 DB에서 읽은 시각 (변경된 매물만 반영한 스냅샷은 이전 값을 이어받는다)
+		private final long loadedAt;
+		private final int size;
+		private final long[] ids;
+		private final Property[] rows;
+		private final BitSet[] byType;
+		private final BitSet[] byDeal;
+		private final BitSet[] byStatus;
+		private final Map<String, BitSet> byCity;
+		private final Map<String, BitSet> byDistrict;
+		// 검색 기준 금액 오름차순으로 정렬한 (금액, 행 번호)
+		private final long[] sortedPrices;
+		private final int[] rowsByPrice;
+		private final Map<Location, Integer> regionCounts;
+
+		private Snapshot(long loadedAt, int size, long[] ids, Property[] rows, BitSet[] byType, BitSet[] byDeal, BitSet[] byStatus,
+			Map<String, BitSet> byCity, Map<String, BitSet> byDistrict, long[] sortedPrices, int[] rowsByPrice,
+			Map<Location, Integer> regionCounts) {
+			this.loadedAt = loadedAt;
+			this.size = size;
+			this.ids = ids;
+			this.rows = rows;
+			this.byType = byType;
+			this.byDeal = byDeal;
+			this.byStatus = byStatus;
+			this.byCity = byCity;
+			this.byDistrict = byDistrict;
+			this.sortedPrices = sortedPrices;
+			this.rowsByPrice = rowsByPrice;
+			this.regionCounts = Collections.unmodifiableMap(regionCounts);
+		}
+
+		// ID 오름차순으로 정렬된 매물 목록으로 새로 만든다.
+		private static Snapshot build(List<Property> properties, long loadedAt) {
+			int size = properties.size();
+			long[] ids = new long[size];
+			Property[] rows = new Property[size];
+			Map<Location, Integer> regionCounts = new HashMap<>();
+			Snapshot snapshot = new Snapshot(loadedAt, size, ids, rows, newBitSets(PropertyType.values().length),
+				newBitSets(DealType.values().length), newBitSets(PropertyStatus.values().length), new HashMap<>(),
+				new HashMap<>(), new long[size], new int[size], regionCounts);
+
+			Integer[] order = new Integer[size];
+			for (int row = 0; row < size; row++) {
+				Property property = properties.get(row);
+				ids[row] = property.getId();
+				rows[row] = property;
+				snapshot.index(row, property);
+				countRegion(regionCounts, property, 1);
+				order[row] = row;
+			}
+			Arrays.sort(order, Comparator.comparingLong(row -> rows[row].getEffectivePrice()));
+			for (int i = 0; i < size; i++) {
+				snapshot.rowsByPrice[i] = order[i];
+				snapshot.sortedPrices[i] = rows[order[i]].getEffectivePrice();
+			}
+			return snapshot;
+		}
+
+		/**
+		 * 변경된 매물을 반영한 새 스냅샷
+		 * 기존 매물은 같은 행 번호를 쓰고, 새 매물은 ID가 가장 크면 뒤에 붙인다.
+		 * (먼저 시작한 트랜잭션이 늦게 커밋되어 ID 순서가 어긋나면 전체를 다시 만든다)
+		 */
+		private Snapshot with(List<Property> changed) {
+			changed.sort(Comparator.comparingLong(Property::getId));
+			List<Property> updated = new ArrayList<>();
+			List<Property> appended = new ArrayList<>();
+			for (Property property : changed) {
+				int row = rowOf(property.getId());
+				if (row >= 0) {
+					// 먼저 읽은 값이 더 최신이면 유지
+					if (property.getVersion() >= rows[row].getVersion())
+						updated.add(property);
+				} else if (property.getId() > (appended.isEmpty() ? lastId() : appended.get(appended.size() - 1).getId())) {
+					appended.add(property);
+				} else {
+					return rebuildWith(changed);
+				}
+			}
+			if (updated.isEmpty() && appended.isEmpty())
+				return this;
+
+			int newSize = size + appended.size();
+			Map<Location, Integer> nextRegionCounts = new HashMap<>(regionCounts);
+			Snapshot next = new Snapshot(loadedAt, newSize, Arrays.copyOf(ids, newSize), Arrays.copyOf(rows, newSize),
+				copy(byType), copy(byDeal), copy(byStatus), copy(byCity), copy(byDistrict),
+				new long[newSize], new int[newSize], nextRegionCounts);
+
+			BitSet repriced = new BitSet(newSize);
+			List<Integer> changedRows = new ArrayList<>();
+			for (Property property : updated) {
+				int row = rowOf(property.getId());
+				next.unindex(row, rows[row]);
+				countRegion(nextRegionCounts, rows[row], -1);
+				next.rows[row] = property;
+				next.index(row, property);
+				countRegion(nextRegionCounts, property, 1);
+				repriced.set(row);
+				changedRows.add(row);
+			}
+			int row = size;
+			for (Property property : appended) {
+				next.ids[row] = property.getId();
+				next.rows[row] = property;
+				next.index(row, property);
+				countRegion(nextRegionCounts, property, 1);
+				changedRows.add(row++);
+			}
+			next.mergePrices(this, repriced, changedRows);
+			return next;
+		}
+
+		private Snapshot rebuildWith(List<Property> changed) {
+			Map<Long, Property> merged = new HashMap<>();
+			for (int row = 0; row < size; row++)
+				merged.put(ids[row], rows[row]);
+			for (Property property : changed) {
+				Property existing = merged.get(property.getId());
+				if (existing == null || property.getVersion() >= existing.getVersion())
+					merged.put(property.getId(), property);
+			}
+			List<Property> all = new ArrayList<>(merged.values());
+			all.sort(Comparator.comparingLong(Property::getId));
+			return build(all, loadedAt);
+		}
+
+		// 검색 대상인 매물만 센다. (0이 되면 지역을 뺀다)
+		private static void countRegion(Map<Location, Integer> counts, Property property, int delta) {
+			if (property.getStatus() == PropertyStatus.COMPLETED)
+				return;
+			counts.merge(property.getLocation(), delta, (count, added) -> count + added == 0 ? null : count + added);
+		}
+
+		// 이전 스냅샷의 가격 순서에서 바뀐 행을 빼고, 바뀐 행들을 정렬해 병합한다.
+		private void mergePrices(Snapshot previous, BitSet repriced, List<Integer> changedRows) {
+			changedRows.sort(Comparator.comparingLong(row -> rows[row].getEffectivePrice()));
+			int target = 0;
+			int changedIndex = 0;
+			for (int i = 0; i < previous.size; i++) {
+				int row = previous.rowsByPrice[i];
+				if (repriced.get(row))
+					continue;
+				long price = previous.sortedPrices[i];
+				while (changedIndex < changedRows.size()
+					&& rows[changedRows.get(changedIndex)].getEffectivePrice() < price)
+					target = putPrice(target, changedRows.get(changedIndex++));
+				rowsByPrice[target] = row;
+				sortedPrices[target++] = price;
+			}
+			while (changedIndex < changedRows.size())
+				target = putPrice(target, changedRows.get(changedIndex++));
+		}
+
+		private int putPrice(int target, int row) {
+			rowsByPrice[target] = row;
+			sortedPrices[target] = rows[row].getEffectivePrice();
+			return target + 1;
+		}
+
+		private void index(int row, Property property) {
+			byType[property.getPropertyType().ordinal()].set(row);
+			byDeal[property.getDealType().ordinal()].set(row);
+			byStatus[property.getStatus().ordinal()].set(row);
+			byCity.computeIfAbsent(property.getLocation().getCity(), key -> new BitSet()).set(row);
+			byDistrict.computeIfAbsent(property.getLocation().getDistrict(), key -> new BitSet()).set(row);
+		}
+
+		private void unindex(int row, Property property) {
+			byType[property.getPropertyType().ordinal()].clear(row);
+			byDeal[property.getDealType().ordinal()].clear(row);
+			byStatus[property.getStatus().ordinal()].clear(row);
+			byCity.get(property.getLocation().getCity()).clear(row);
+			byDistrict.get(property.getLocation().getDistrict()).clear(row);
+		}
+
+		// ======================================= 검색 =======================================
+		// PropertyFilterSql과 같은 조건으로 일치하는 행 번호
+		private BitSet match(PropertyFilter filter) {
+			BitSet result = searchableIn(filter.getCity());
+			if (filter.getDistrict() != null)
+				and(result, byDistrict.get(filter.getDistrict()));
+			if (filter.getPropertyTypes() != null && !filter.getPropertyTypes().isEmpty()) {
+				BitSet types = new BitSet(size);
+				for (PropertyType type : filter.getPropertyTypes())
+					types.or(byType[type.ordinal()]);
+				result.and(types);
+			}
+			if (filter.getDealTypes() != null && !filter.getDealTypes().isEmpty()) {
+				BitSet deals = new BitSet(size);
+				for (DealType type : filter.getDealTypes())
+					deals.or(byDeal[type.ordinal()]);
+				result.and(deals);
+			}
+
+			// 가격 조건이 없으면 아무것도 하지 않음 (0 이하인 경계는 조건 없음)
+			long minPrice = filter.getMinPrice();
+			long maxPrice = filter.getMaxPrice();
+			if ((minPrice > 0 || maxPrice > 0) && !result.isEmpty())
+				result.and(rowsInPriceRange(minPrice > 0 ? minPrice : Long.MIN_VALUE,
+					maxPrice > 0 ? maxPrice : Long.MAX_VALUE));
+			return result;
+		}
+
+		// 계약 완료가 아닌 매물 (city가 null이 아니면 해당 시/도만)
+		private BitSet searchableIn(String city) {
+			BitSet result = new BitSet(size);
+			result.set(0, size);
+			result.andNot(byStatus[PropertyStatus.COMPLETED.ordinal()]);
+			if (city != null)
+				and(result, byCity.get(city));
+			return result;
+		}
+
+		private void and(BitSet result, BitSet values) {
+			if (values == null)
+				result.clear();
+			else
+				result.and(values);
+		}
+
+		private BitSet rowsInPriceRange(long min, long max) {
+			BitSet matched = new BitSet(size);
+			for (int i = lowerBound(sortedPrices, size, min); i < size && sortedPrices[i] <= max; i++)
+				matched.set(rowsByPrice[i]);
+			return matched;
+		}
+
+		// afterId보다 큰 첫 ID의 행 번호
+		private int firstRowAfter(long afterId) {
+			int row = Arrays.binarySearch(ids, 0, size, afterId);
+			return row >= 0 ? row + 1 : -row - 1;
+		}
+
+		private int rowOf(long id) {
+			int row = Arrays.binarySearch(ids, 0, size, id);
+			return row >= 0 ? row : -1;
+		}
+
+		private long lastId() {
+			return size == 0 ? Long.MIN_VALUE : ids[size - 1];
+		}
+
+		// value 이상인 첫 위치
+		private static int lowerBound(long[] values, int length, long value) {
+			int low = 0;
+			int high = length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (values[mid] < value)
+					low = mid + 1;
+				else
+					high = mid;
+			}
+			return low;
+		}
+
+		private static BitSet[] newBitSets(int count) {
+			BitSet[] bitSets = new BitSet[count];
+			for (int i = 0; i < count; i++)
+				bitSets[i] = new BitSet();
+			return bitSets;
+		}
+
+		private static BitSet[] copy(BitSet[] source) {
+			BitSet[] copied = new BitSet[source.length];
+			for (int i = 0; i < source.length; i++)
+				copied[i] = (BitSet)source[i].clone();
+			return copied;
+		}
+
+		private static Map<String, BitSet> copy(Map<String, BitSet> source) {
+			Map<String, BitSet> copied = new HashMap<>();
+			for (Map.Entry<String, BitSet> entry : source.entrySet())
+				copied.put(entry.getKey(), (BitSet)entry.getValue().clone());
+			return copied;
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import domain.ContractRequest;
+import domain.Location;
+import domain.Price;
+import domain.Property;
+import domain.enums.DealType;
+import domain.enums.PropertyStatus;
+import domain.enums.PropertyType;
+import domain.enums.RequestStatus;
+
+/**
+ * 조회 결과 한 행을 도메인 객체로 변환
+ * 목록 조회에서는 행마다 호출되므로 Repository들이 함께 사용한다.
+ */
+public final class RowMappers {
+	private RowMappers() {
+	}
+
+	public static Property mapProperty(ResultSet rs) throws SQLException {
+		// DB 조회 결과를 Property 객체로 변환
+		Location location = new Location(rs.getString("city"), rs.getString("district"));
+		Price price = new Price(rs.getLong("deposit"), rs.getLong("monthly_rent"));
+
+		Property property = new Property(
+			rs.getLong("id"),
+			rs.getLong("owner_id"),
+			location,
+			price,
+			PropertyType.valueOf(rs.getString("property_type")),
+			DealType.valueOf(rs.getString("deal_type"))
+		);
+		property.setStatus(PropertyStatus.valueOf(rs.getString("status")));
+		property.setVersion(rs.getLong("version"));
+		return property;
+	}
+
+	public static ContractRequest mapContractRequest(ResultSet rs) throws SQLException {
+		ContractRequest request = new ContractRequest(
+			rs.getLong("id"),
+			rs.getLong("requester_id"),
+			rs.getLong("property_id"),
+			RequestStatus.valueOf(rs.getString("status")),
+			rs.getTimestamp("created_at").toLocalDateTime()
+		);
+		request.setVersion(rs.getLong("version"));
+		return request;
+	}
+}
@@ -0,0 +1,30 @@
+package repository;
+
+import java.util.Optional;
+
+import domain.Contract;
+import metrics.MethodMetrics;
+import metrics.MethodStats;
+
+/**
+ * 호출 시간을 기록하는 ContractRepository (public 메서드마다 MethodStats 하나)
+ */
+public class TimedContractRepository extends ContractRepository {
+	private final MethodStats save;
+	private final MethodStats findById;
+
+	public TimedContractRepository(MethodMetrics metrics) {
+		this.save = metrics.stats("ContractRepository.save");
+		this.findById = metrics.stats("ContractRepository.findById");
+	}
+
+	@Override
+	public Contract save(Contract contract) {
+		return save.time(() -> super.save(contract));
+	}
+
+	@Override
+	public Optional<Contract> findById(Long id) {
+		return findById.time(() -> super.findById(id));
+	}
+}
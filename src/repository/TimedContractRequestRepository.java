@@ -0,0 +1,67 @@
+package repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import domain.ContractRequest;
+import dto.ContractRequestView;
+import metrics.MethodMetrics;
+import metrics.MethodStats;
+
+/**
+ * 호출 시간을 기록하는 ContractRequestRepository (public 메서드마다 MethodStats 하나)
+ */
+public class TimedContractRequestRepository extends ContractRequestRepository {
+	private final MethodStats save;
+	private final MethodStats saveAll;
+	private final MethodStats findById;
+	private final MethodStats findAllByRequesterId;
+	private final MethodStats findAllByPropertyOwnerId;
+	private final MethodStats findViewsByRequesterId;
+	private final MethodStats findViewsByPropertyOwnerId;
+
+	public TimedContractRequestRepository(MethodMetrics metrics) {
+		this.save = metrics.stats("ContractRequestRepository.save");
+		this.saveAll = metrics.stats("ContractRequestRepository.saveAll");
+		this.findById = metrics.stats("ContractRequestRepository.findById");
+		this.findAllByRequesterId = metrics.stats("ContractRequestRepository.findAllByRequesterId");
+		this.findAllByPropertyOwnerId = metrics.stats("ContractRequestRepository.findAllByPropertyOwnerId");
+		this.findViewsByRequesterId = metrics.stats("ContractRequestRepository.findViewsByRequesterId");
+		this.findViewsByPropertyOwnerId = metrics.stats("ContractRequestRepository.findViewsByPropertyOwnerId");
+	}
+
+	@Override
+	public ContractRequest save(ContractRequest request) {
+		return save.time(() -> super.save(request));
+	}
+
+	@Override
+	public List<ContractRequest> saveAll(List<ContractRequest> requests) {
+		return saveAll.time(() -> super.saveAll(requests));
+	}
+
+	@Override
+	public Optional<ContractRequest> findById(Long id) {
+		return findById.time(() -> super.findById(id));
+	}
+
+	@Override
+	public List<ContractRequest> findAllByRequesterId(Long userId) {
+		return findAllByRequesterId.time(() -> super.findAllByRequesterId(userId));
+	}
+
+	@Override
+	public List<ContractRequest> findAllByPropertyOwnerId(Long ownerId) {
+		return findAllByPropertyOwnerId.time(() -> super.findAllByPropertyOwnerId(ownerId));
+	}
+
+	@Override
+	public List<ContractRequestView> findViewsByRequesterId(Long userId) {
+		return findViewsByRequesterId.time(() -> super.findViewsByRequesterId(userId));
+	}
+
+	@Override
+	public List<ContractRequestView> findViewsByPropertyOwnerId(Long ownerId) {
+		return findViewsByPropertyOwnerId.time(() -> super.findViewsByPropertyOwnerId(ownerId));
+	}
+}
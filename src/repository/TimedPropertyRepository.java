@@ -0,0 +1,109 @@
+package repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import domain.Location;
+import domain.Property;
+import dto.BatchResult;
+import dto.PropertyFacets;
+import dto.PropertyFilter;
+import metrics.MethodMetrics;
+import metrics.MethodStats;
+
+/**
+ * 호출 시간을 기록하는 PropertyRepository (public 메서드마다 MethodStats 하나)
+ * streamByFilter는 쿼리를 실행해 스트림을 여는 시간까지만 기록한다. (읽는 시간은 호출한 쪽의 처리 시간에 포함)
+ */
+public class TimedPropertyRepository extends PropertyRepository {
+	private final MethodStats save;
+	private final MethodStats insertAll;
+	private final MethodStats findById;
+	private final MethodStats findByIds;
+	private final MethodStats findByFilter;
+	private final MethodStats findByFilterPage;
+	private final MethodStats streamByFilter;
+	private final MethodStats countFacets;
+	private final MethodStats countAvailableByRegion;
+	private final MethodStats findByOwnerId;
+	private final MethodStats deleteById;
+	private final MethodStats updateStatusToCompleted;
+
+	public TimedPropertyRepository(MethodMetrics metrics) {
+		this.save = metrics.stats("PropertyRepository.save");
+		this.insertAll = metrics.stats("PropertyRepository.insertAll");
+		this.findById = metrics.stats("PropertyRepository.findById");
+		this.findByIds = metrics.stats("PropertyRepository.findByIds");
+		this.findByFilter = metrics.stats("PropertyRepository.findByFilter(PropertyFilter)");
+		this.findByFilterPage = metrics.stats("PropertyRepository.findByFilter(PropertyFilter,Long,int)");
+		this.streamByFilter = metrics.stats("PropertyRepository.streamByFilter");
+		this.countFacets = metrics.stats("PropertyRepository.countFacets");
+		this.countAvailableByRegion = metrics.stats("PropertyRepository.countAvailableByRegion");
+		this.findByOwnerId = metrics.stats("PropertyRepository.findByOwnerId");
+		this.deleteById = metrics.stats("PropertyRepository.deleteById");
+		this.updateStatusToCompleted = metrics.stats("PropertyRepository.updateStatusToCompleted");
+	}
+
+	@Override
+	public Property save(Property property) {
+		return save.time(() -> super.save(property));
+	}
+
+	@Override
+	public BatchResult<Integer, Property> insertAll(List<Property> properties) {
+		return insertAll.time(() -> super.insertAll(properties));
+	}
+
+	@Override
+	public Optional<Property> findById(Long id) {
+		return findById.time(() -> super.findById(id));
+	}
+
+	@Override
+	public Map<Long, Property> findByIds(Collection<Long> ids) {
+		return findByIds.time(() -> super.findByIds(ids));
+	}
+
+	@Override
+	public List<Property> findByFilter(PropertyFilter filter) {
+		return findByFilter.time(() -> super.findByFilter(filter));
+	}
+
+	@Override
+	public List<Property> findByFilter(PropertyFilter filter, Long afterId, int limit) {
+		return findByFilterPage.time(() -> super.findByFilter(filter, afterId, limit));
+	}
+
+	@Override
+	public Stream<Property> streamByFilter(PropertyFilter filter, int fetchSize) {
+		return streamByFilter.time(() -> super.streamByFilter(filter, fetchSize));
+	}
+
+	@Override
+	public PropertyFacets countFacets(PropertyFilter filter) {
+		return countFacets.time(() -> super.countFacets(filter));
+	}
+
+	@Override
+	public Map<Location, Integer> countAvailableByRegion() {
+		return countAvailableByRegion.time(() -> super.countAvailableByRegion());
+	}
+
+	@Override
+	public List<Property> findByOwnerId(Long ownerId) {
+		return findByOwnerId.time(() -> super.findByOwnerId(ownerId));
+	}
+
+	@Override
+	public void deleteById(Long id) {
+		deleteById.time(() -> super.deleteById(id));
+	}
+
+	@Override
+	public int updateStatusToCompleted(Long propertyId) {
+		return updateStatusToCompleted.time(() -> super.updateStatusToCompleted(propertyId));
+	}
+}
@@ -0,0 +1,46 @@
+package repository;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+import domain.User;
+import metrics.MethodMetrics;
+import metrics.MethodStats;
+
+/**
+ * 호출 시간을 기록하는 UserRepository (public 메서드마다 MethodStats 하나)
+ */
+public class TimedUserRepository extends UserRepository {
+	private final MethodStats save;
+	private final MethodStats findByEmail;
+	private final MethodStats findById;
+	private final MethodStats findByIds;
+
+	public TimedUserRepository(MethodMetrics metrics) {
+		this.save = metrics.stats("UserRepository.save");
+		this.findByEmail = metrics.stats("UserRepository.findByEmail");
+		this.findById = metrics.stats("UserRepository.findById");
+		this.findByIds = metrics.stats("UserRepository.findByIds");
+	}
+
+	@Override
+	public User save(User user) {
+		return save.time(() -> super.save(user));
+	}
+
+	@Override
+	public Optional<User> findByEmail(String email) {
+		return findByEmail.time(() -> super.findByEmail(email));
+	}
+
+	@Override
+	public Optional<User> findById(Long id) {
+		return findById.time(() -> super.findById(id));
+	}
+
+	@Override
+	public Map<Long, User> findByIds(Collection<Long> ids) {
+		return findByIds.time(() -> super.findByIds(ids));
+	}
+}
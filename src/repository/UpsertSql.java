@@ -0,0 +1,59 @@
+package repository;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * ID를 애플리케이션이 정하는 테이블을 위한 MySQL 업서트 SQL 생성기
+ * - INSERT ... ON DUPLICATE KEY UPDATE 한 문장으로 저장하므로 존재 여부를 먼저 조회하지 않는다.
+ * - 키가 이미 있으면 updateColumns만 새 값으로 바꾸고 나머지 컬럼(생성일 등)은 그대로 둔다.
+ * - 같은 키를 동시에 저장해도 중복 키 오류 없이 한쪽 값으로 정리된다.
+ *
+ * 예) UpsertSql.build("contracts", List.of("id", "status"), List.of("status"))
+ * -> INSERT INTO contracts (id, status) VALUES (?, ?) AS incoming ON DUPLICATE KEY UPDATE status = incoming.status
+ */
+public final class UpsertSql {
+	// 테이블/컬럼 이름은 SQL에 그대로 들어가므로 식별자 형식만 허용
+	private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+	// MySQL 8.0.19+의 행 별칭 문법 (VALUES() 함수는 8.0.20부터 사용 중단 예정)
+	private static final String ROW_ALIAS = "incoming";
+
+	private UpsertSql() {
+	}
+
+	/**
+	 * @param table 테이블 이름
+	 * @param columns INSERT할 컬럼 (바인딩 순서)
+	 * @param updateColumns 키가 이미 있을 때 덮어쓸 컬럼 (columns에 포함되어야 한다)
+	 * @return columns 순서대로 ?를 바인딩하는 업서트 SQL
+	 */
+	public static String build(String table, List<String> columns, List<String> updateColumns) {
+		checkIdentifier(table);
+		if (columns.isEmpty() || updateColumns.isEmpty())
+			throw new IllegalArgumentException("업서트할 컬럼이 지정되지 않았습니다.");
+		columns.forEach(UpsertSql::checkIdentifier);
+		for (String column : updateColumns) {
+			if (!columns.contains(column))
+				throw new IllegalArgumentException("INSERT 컬럼에 없는 컬럼은 업데이트할 수 없습니다: " + column);
+		}
+
+		StringBuilder sb = new StringBuilder("INSERT INTO ").append(table)
+			.append(" (").append(String.join(", ", columns)).append(") VALUES (")
+			.append(String.join(", ", Collections.nCopies(columns.size(), "?")))
+			.append(") AS ").append(ROW_ALIAS)
+			.append(" ON DUPLICATE KEY UPDATE ");
+		for (int i = 0; i < updateColumns.size(); i++) {
+			if (i > 0)
+				sb.append(", ");
+			String column = updateColumns.get(i);
+			sb.append(column).append(" = ").append(ROW_ALIAS).append('.').append(column);
+		}
+		return sb.toString();
+	}
+
+	private static void checkIdentifier(String name) {
+		if (name == null || !IDENTIFIER.matcher(name).matches())
+			throw new IllegalArgumentException("올바르지 않은 테이블/컬럼 이름입니다: " + name);
+	}
+}
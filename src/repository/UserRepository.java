@@ -5,6 +5,10 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import config.DBConnectionManager;
@@ -80,6 +84,35 @@ public class UserRepository {
 		return Optional.empty();
 	}
 
+	/**
+	 * 여러 사용자를 IN 쿼리 한 번으로 조회
+	 * @param ids 조회할 사용자 ID 목록
+	 * @return ID별 사용자 (존재하지 않는 ID는 포함되지 않는다)
+	 */
+	public Map<Long, User> findByIds(Collection<Long> ids) {
+		Map<Long, User> users = new LinkedHashMap<>();
+		if (ids == null || ids.isEmpty())
+			return users;
+
+		String sql = "SELECT * FROM users WHERE id IN (" +
+			String.join(",", Collections.nCopies(ids.size(), "?")) + ")";
+		try (Connection conn = DBConnectionManager.getConnection();
+			 PreparedStatement stmt = conn.prepareStatement(sql)) {
+			int index = 1;
+			for (Long id : ids)
+				stmt.setLong(index++, id);
+			try (ResultSet rs = stmt.executeQuery()) {
+				while (rs.next()) {
+					User user = mapUser(rs);
+					users.put(user.getId(), user);
+				}
+			}
+		} catch (SQLException e) {
+			throw new RuntimeException("ID 목록으로 사용자 조회에 실패했습니다.");
+		}
+		return users;
+	}
+
 	// ResultSet -> User 객체 변환 (중복 제거)
 	private User mapUser(ResultSet rs) throws SQLException {
 		return new User(
@@ -0,0 +1,31 @@
+package service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import domain.User;
+
+/**
+ * IAuthService의 비동기 버전
+ * 각 호출을 executor에서 실행하고 결과를 CompletableFuture로 돌려준다. (예외는 future를 통해 전달된다)
+ */
+public class AsyncAuthService {
+	private final IAuthService authService;
+	private final Executor executor;
+
+	public AsyncAuthService(IAuthService authService, Executor executor) {
+		this.authService = authService;
+		this.executor = executor;
+	}
+
+	public CompletableFuture<Optional<User>> login(String email) {
+		return CompletableFuture.supplyAsync(() -> authService.login(email), executor);
+	}
+
+	public CompletableFuture<Map<Long, User>> findUsersByIds(Collection<Long> userIds) {
+		return CompletableFuture.supplyAsync(() -> authService.findUsersByIds(userIds), executor);
+	}
+}
@@ -0,0 +1,62 @@
+package service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import domain.ContractRequest;
+import domain.User;
+import dto.BatchResult;
+import dto.ContractRequestView;
+
+/**
+ * IContractRequestService의 비동기 버전
+ * 각 호출을 executor에서 실행하고 결과를 CompletableFuture로 돌려준다. (예외는 future를 통해 전달된다)
+ */
+public class AsyncContractRequestService {
+	private final IContractRequestService requestService;
+	private final Executor executor;
+
+	public AsyncContractRequestService(IContractRequestService requestService, Executor executor) {
+		this.requestService = requestService;
+		this.executor = executor;
+	}
+
+	public CompletableFuture<ContractRequest> findContractRequestById(Long requestId) {
+		return CompletableFuture.supplyAsync(() -> requestService.findContractRequestById(requestId), executor);
+	}
+
+	public CompletableFuture<List<ContractRequest>> findContractRequestsByUserId(Long userId) {
+		return CompletableFuture.supplyAsync(() -> requestService.findContractRequestsByUserId(userId), executor);
+	}
+
+	public CompletableFuture<List<ContractRequest>> findContractRequestsByPropertyOwnerId(Long ownerId) {
+		return CompletableFuture.supplyAsync(
+			() -> requestService.findContractRequestsByPropertyOwnerId(ownerId), executor);
+	}
+
+	public CompletableFuture<List<ContractRequestView>> findContractRequestViewsByUserId(Long userId) {
+		return CompletableFuture.supplyAsync(() -> requestService.findContractRequestViewsByUserId(userId), executor);
+	}
+
+	public CompletableFuture<List<ContractRequestView>> findContractRequestViewsByPropertyOwnerId(Long ownerId) {
+		return CompletableFuture.supplyAsync(
+			() -> requestService.findContractRequestViewsByPropertyOwnerId(ownerId), executor);
+	}
+
+	public CompletableFuture<ContractRequest> createRequest(User lessee, Long propertyId) {
+		return CompletableFuture.supplyAsync(() -> requestService.createRequest(lessee, propertyId), executor);
+	}
+
+	public CompletableFuture<BatchResult<Long, ContractRequest>> createRequests(User lessee, List<Long> propertyIds) {
+		return CompletableFuture.supplyAsync(() -> requestService.createRequests(lessee, propertyIds), executor);
+	}
+
+	public CompletableFuture<ContractRequest> approveRequest(User lessor, Long requestId) {
+		return CompletableFuture.supplyAsync(() -> requestService.approveRequest(lessor, requestId), executor);
+	}
+
+	public CompletableFuture<ContractRequest> rejectRequest(User lessor, Long requestId) {
+		return CompletableFuture.supplyAsync(() -> requestService.rejectRequest(lessor, requestId), executor);
+	}
+}
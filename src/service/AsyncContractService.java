@@ -0,0 +1,29 @@
+package service;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import domain.Contract;
+
+/**
+ * IContractService의 비동기 버전
+ * 각 호출을 executor에서 실행하고 결과를 CompletableFuture로 돌려준다. (예외는 future를 통해 전달된다)
+ */
+public class AsyncContractService {
+	private final IContractService contractService;
+	private final Executor executor;
+
+	public AsyncContractService(IContractService contractService, Executor executor) {
+		this.contractService = contractService;
+		this.executor = executor;
+	}
+
+	public CompletableFuture<Contract> completeContract(Long requestId) {
+		return CompletableFuture.supplyAsync(() -> contractService.completeContract(requestId), executor);
+	}
+
+	public CompletableFuture<Optional<Contract>> findContractById(long id) {
+		return CompletableFuture.supplyAsync(() -> contractService.findContractById(id), executor);
+	}
+}
@@ -0,0 +1,84 @@
+package service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import domain.Property;
+import domain.User;
+import dto.BatchResult;
+import dto.PropertyCreateRequest;
+import dto.PropertyFacets;
+import dto.PropertyFilter;
+import dto.PropertyPage;
+import dto.PropertyUpdateRequest;
+import dto.RegionCount;
+
+/**
+ * IPropertyService의 비동기 버전
+ * 각 호출을 executor에서 실행하고 결과를 CompletableFuture로 돌려준다. (예외는 future를 통해 전달된다)
+ * streamPropertiesByFilter는 스트림이 커넥션을 점유하므로 비동기로 제공하지 않는다.
+ */
+public class AsyncPropertyService {
+	private final IPropertyService propertyService;
+	private final Executor executor;
+
+	public AsyncPropertyService(IPropertyService propertyService, Executor executor) {
+		this.propertyService = propertyService;
+		this.executor = executor;
+	}
+
+	public CompletableFuture<List<Property>> findPropertiesByFilter(PropertyFilter filters) {
+		return CompletableFuture.supplyAsync(() -> propertyService.findPropertiesByFilter(filters), executor);
+	}
+
+	public CompletableFuture<PropertyPage> findPropertiesByFilter(PropertyFilter filters, int pageSize,
+		String cursor) {
+		return CompletableFuture.supplyAsync(
+			() -> propertyService.findPropertiesByFilter(filters, pageSize, cursor), executor);
+	}
+
+	public CompletableFuture<PropertyFacets> getFacets(PropertyFilter filters) {
+		return CompletableFuture.supplyAsync(() -> propertyService.getFacets(filters), executor);
+	}
+
+	public CompletableFuture<List<RegionCount>> getCities() {
+		return CompletableFuture.supplyAsync(propertyService::getCities, executor);
+	}
+
+	public CompletableFuture<List<RegionCount>> getDistricts(String city) {
+		return CompletableFuture.supplyAsync(() -> propertyService.getDistricts(city), executor);
+	}
+
+	public CompletableFuture<Property> findPropertyById(Long propertyId) {
+		return CompletableFuture.supplyAsync(() -> propertyService.findPropertyById(propertyId), executor);
+	}
+
+	public CompletableFuture<Map<Long, Property>> findPropertiesByIds(Collection<Long> propertyIds) {
+		return CompletableFuture.supplyAsync(() -> propertyService.findPropertiesByIds(propertyIds), executor);
+	}
+
+	public CompletableFuture<List<Property>> findPropertiesByUserId(Long userId) {
+		return CompletableFuture.supplyAsync(() -> propertyService.findPropertiesByUserId(userId), executor);
+	}
+
+	public CompletableFuture<Property> createProperty(User lessor, PropertyCreateRequest request) {
+		return CompletableFuture.supplyAsync(() -> propertyService.createProperty(lessor, request), executor);
+	}
+
+	public CompletableFuture<BatchResult<Integer, Property>> createProperties(User lessor,
+		List<PropertyCreateRequest> requests) {
+		return CompletableFuture.supplyAsync(() -> propertyService.createProperties(lessor, requests), executor);
+	}
+
+	public CompletableFuture<Property> updateProperty(User lessor, Long propertyId, PropertyUpdateRequest request) {
+		return CompletableFuture.supplyAsync(
+			() -> propertyService.updateProperty(lessor, propertyId, request), executor);
+	}
+
+	public CompletableFuture<Boolean> deleteProperty(User lessor, Long propertyId) {
+		return CompletableFuture.supplyAsync(() -> propertyService.deleteProperty(lessor, propertyId), executor);
+	}
+}
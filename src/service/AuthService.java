@@ -1,5 +1,7 @@
 package service;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 import domain.User;
@@ -20,4 +22,9 @@ public class AuthService implements IAuthService {
 		authValidator.validateEmail(email);
 		return repository.findByEmail(email);
 	}
+
+	@Override
+	public Map<Long, User> findUsersByIds(Collection<Long> userIds) {
+		return repository.findByIds(userIds);
+	}
 }
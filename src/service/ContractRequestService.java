@@ -1,13 +1,20 @@
 package service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+import config.TransactionManager;
 import domain.ContractRequest;
 import domain.Property;
 import domain.User;
 import domain.enums.PropertyStatus;
 import domain.enums.RequestStatus;
+import dto.BatchResult;
+import dto.ContractRequestView;
 import exception.CustomException;
 import exception.ErrorCode;
 import repository.ContractRequestRepository;
@@ -26,6 +33,12 @@ public class ContractRequestService implements IContractRequestService {
 		this.validator = validator;
 	}
 
+	@Override
+	public ContractRequest findContractRequestById(Long requestId) {
+		return requestRepository.findById(requestId)
+			.orElseThrow(() -> new CustomException(ErrorCode.REQUEST_NOT_FOUND));
+	}
+
 	@Override
 	public List<ContractRequest> findContractRequestsByUserId(Long userId) {
 		return requestRepository.findAllByRequesterId(userId);
@@ -36,6 +49,16 @@ public class ContractRequestService implements IContractRequestService {
 		return requestRepository.findAllByPropertyOwnerId(ownerId);
 	}
 
+	@Override
+	public List<ContractRequestView> findContractRequestViewsByUserId(Long userId) {
+		return requestRepository.findViewsByRequesterId(userId);
+	}
+
+	@Override
+	public List<ContractRequestView> findContractRequestViewsByPropertyOwnerId(Long ownerId) {
+		return requestRepository.findViewsByPropertyOwnerId(ownerId);
+	}
+
 	@Override
 	public ContractRequest createRequest(User lessee, Long propertyId) {
 		// 1. 매물 조회
@@ -58,38 +81,78 @@ public class ContractRequestService implements IContractRequestService {
 		return requestRepository.save(request);
 	}
 
+	@Override
+	public BatchResult<Long, ContractRequest> createRequests(User lessee, List<Long> propertyIds) {
+		// 1. 사용자가 임차인인지 확인
+		validator.validateUser(lessee);
+
+		return TransactionManager.execute(() -> {
+			// 2. 요청할 매물을 한 번에 조회
+			Set<Long> uniquePropertyIds = new LinkedHashSet<>(propertyIds);
+			Map<Long, Property> properties = propertyRepository.findByIds(uniquePropertyIds);
+
+			// 3. 매물 존재 여부와 상태를 메모리에서 확인
+			BatchResult<Long, ContractRequest> result = new BatchResult<>();
+			List<ContractRequest> requests = new ArrayList<>();
+			for (Long propertyId : uniquePropertyIds) {
+				Property property = properties.get(propertyId);
+				if (property == null) {
+					result.addFailure(propertyId, new CustomException(ErrorCode.PROPERTY_NOT_FOUND));
+					continue;
+				}
+				try {
+					validator.validatePropertyStatus(property);
+				} catch (CustomException e) {
+					result.addFailure(propertyId, e);
+					continue;
+				}
+				requests.add(new ContractRequest(null, lessee.getId(), propertyId));
+			}
+
+			// 4. 검증을 통과한 요청을 배치로 저장
+			for (ContractRequest request : requestRepository.saveAll(requests))
+				result.addSuccess(request.getPropertyId(), request);
+			return result;
+		});
+	}
+
 	@Override
 	public ContractRequest approveRequest(User lessor, Long requestId) {
-		// 요청 상태 검증 후 APPROVED로 변경
-		ContractRequest request = findAndValidateRequest(lessor, requestId);
-		validator.validateRequestStatus(request);
-		request.setStatus(RequestStatus.APPROVED);
+		// 조회부터 저장까지 하나의 트랜잭션으로 처리 (중간에 실패하면 모두 롤백)
+		return TransactionManager.execute(() -> {
+			// 요청 상태 검증 후 APPROVED로 변경
+			ContractRequest request = findAndValidateRequest(lessor, requestId);
+			validator.validateRequestStatus(request);
+			request.setStatus(RequestStatus.APPROVED);
 
-		// 매물 상태 검증 후 IN_CONTRACT로 변경
-		Property property = propertyRepository.findById(request.getPropertyId())
-			.orElseThrow(() -> new CustomException(ErrorCode.PROPERTY_NOT_FOUND));
-		validator.validatePropertyStatus(property);
-		property.setStatus(PropertyStatus.IN_CONTRACT);
-		propertyRepository.save(property);
+			// 매물 상태 검증 후 IN_CONTRACT로 변경
+			Property property = propertyRepository.findById(request.getPropertyId())
+				.orElseThrow(() -> new CustomException(ErrorCode.PROPERTY_NOT_FOUND));
+			validator.validatePropertyStatus(property);
+			property.setStatus(PropertyStatus.IN_CONTRACT);
+			propertyRepository.save(property);
 
-		return requestRepository.save(request);
+			return requestRepository.save(request);
+		});
 	}
 
 	@Override
 	public ContractRequest rejectRequest(User lessor, Long requestId) {
-		// 요청 상태 검증 후 REJECTED로 변경
-		ContractRequest request = findAndValidateRequest(lessor, requestId);
-		validator.validateRequestStatus(request);
-		request.setStatus(RequestStatus.REJECTED);
+		return TransactionManager.execute(() -> {
+			// 요청 상태 검증 후 REJECTED로 변경
+			ContractRequest request = findAndValidateRequest(lessor, requestId);
+			validator.validateRequestStatus(request);
+			request.setStatus(RequestStatus.REJECTED);
 
-		// 매물 상태 검증 후 다시 AVAILABLE로 변경
-		Property property = propertyRepository.findById(request.getPropertyId())
-			.orElseThrow(() -> new CustomException(ErrorCode.PROPERTY_NOT_FOUND));
-		validator.validatePropertyStatus(property);
-		property.setStatus(PropertyStatus.AVAILABLE);
-		propertyRepository.save(property);
+			// 매물 상태 검증 후 다시 AVAILABLE로 변경
+			Property property = propertyRepository.findById(request.getPropertyId())
+				.orElseThrow(() -> new CustomException(ErrorCode.PROPERTY_NOT_FOUND));
+			validator.validatePropertyStatus(property);
+			property.setStatus(PropertyStatus.AVAILABLE);
+			propertyRepository.save(property);
 
-		return requestRepository.save(request);
+			return requestRepository.save(request);
+		});
 	}
 
 	// 요청 조회 및 권한 검증을 처리하는 공통 로직 (중복 제거)
@@ -1,5 +1,7 @@
 package service;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 import domain.User;
@@ -11,4 +13,11 @@ public interface IAuthService {
 	 * @return 로그인이 성공하면 User 객체를, 실패하면 빈 Optional 객체를 반환
 	 */
 	Optional<User> login(String email);
+
+	/**
+	 * 여러 사용자를 한 번에 조회합니다. (목록 화면에서 사용자마다 조회하지 않도록)
+	 * @param userIds 조회할 사용자 ID 목록
+	 * @return ID별 사용자 (존재하지 않는 ID는 포함되지 않음)
+	 */
+	Map<Long, User> findUsersByIds(Collection<Long> userIds);
 }
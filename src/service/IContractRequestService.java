@@ -4,14 +4,37 @@ import java.util.List;
 
 import domain.ContractRequest;
 import domain.User;
+import dto.BatchResult;
+import dto.ContractRequestView;
 
 public interface IContractRequestService {
+	/**
+	 * 계약 요청 하나를 조회합니다.
+	 * @param requestId 요청 ID
+	 * @return 계약 요청 (없으면 REQUEST_NOT_FOUND 예외)
+	 */
+	ContractRequest findContractRequestById(Long requestId);
+
 	// 임차인이 한 요청 목록 조회
 	List<ContractRequest> findContractRequestsByUserId(Long userId);
 
 	// 특정 매물 소유자의 매물에 대한 모든 요청 목록 조회
 	List<ContractRequest> findContractRequestsByPropertyOwnerId(Long ownerId);
 
+	/**
+	 * 임차인이 한 요청 목록을 매물 요약, 임대인 연락처와 함께 조회합니다. (한 번의 쿼리)
+	 * @param userId 요청자(임차인) ID
+	 * @return 요청 목록 (상대방은 매물 소유자)
+	 */
+	List<ContractRequestView> findContractRequestViewsByUserId(Long userId);
+
+	/**
+	 * 특정 매물 소유자의 매물에 대한 요청 목록을 매물 요약, 임차인 연락처와 함께 조회합니다. (한 번의 쿼리)
+	 * @param ownerId 매물 소유자(임대인) ID
+	 * @return 요청 목록 (상대방은 요청자)
+	 */
+	List<ContractRequestView> findContractRequestViewsByPropertyOwnerId(Long ownerId);
+
 	/**
 	 * 계약 요청을 생성합니다.
 	 * @param lessee 요청자 (임차인)
@@ -20,6 +43,15 @@ public interface IContractRequestService {
 	 */
 	ContractRequest createRequest(User lessee, Long propertyId);
 
+	/**
+	 * 여러 매물에 대한 계약 요청을 한 번에 생성합니다.
+	 * 매물 조회는 한 번의 쿼리로, 저장은 하나의 트랜잭션 안에서 배치로 처리합니다.
+	 * @param lessee 요청자 (임차인)
+	 * @param propertyIds 요청할 매물 ID 목록
+	 * @return 매물 ID별 처리 결과 (존재하지 않거나 계약할 수 없는 매물은 실패로 기록)
+	 */
+	BatchResult<Long, ContractRequest> createRequests(User lessee, List<Long> propertyIds);
+
 	/**
 	 * 계약 요청을 승인합니다.
 	 * @param lessor 승인자 (임대인)
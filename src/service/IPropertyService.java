@@ -1,12 +1,19 @@
 package service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import domain.Property;
 import domain.User;
+import dto.BatchResult;
+import dto.PropertyFacets;
 import dto.PropertyCreateRequest;
 import dto.PropertyFilter;
+import dto.PropertyPage;
 import dto.PropertyUpdateRequest;
+import dto.RegionCount;
 
 public interface IPropertyService {
 	/**
@@ -16,9 +23,55 @@ public interface IPropertyService {
 	 */
 	List<Property> findPropertiesByFilter(PropertyFilter filters);
 
+	/**
+	 * 필터 조건에 맞는 매물을 페이지 단위로 조회합니다.
+	 * @param filters 조회 조건 (지역, 가격, 유형 등)
+	 * @param pageSize 한 페이지의 매물 수
+	 * @param cursor 이전 페이지에서 받은 nextCursor (첫 페이지는 null)
+	 * @return 조회된 페이지와 다음 페이지 커서
+	 */
+	PropertyPage findPropertiesByFilter(PropertyFilter filters, int pageSize, String cursor);
+
+	/**
+	 * 필터 조건에 맞는 모든 매물을 목록으로 만들지 않고 차례로 읽어옵니다. (내보내기, 배치 작업용)
+	 * 스트림은 DB 커넥션을 점유하므로 사용 후 반드시 close() 해야 합니다.
+	 * @param filters 조회 조건
+	 * @param fetchSize 한 번에 DB에서 가져올 행 수
+	 * @return 조건에 맞는 매물 스트림
+	 */
+	Stream<Property> streamPropertiesByFilter(PropertyFilter filters, int fetchSize);
+
+	/**
+	 * 검색 조건을 좁힐 때 각 항목 옆에 보여줄 매물 수를 한 번에 조회합니다.
+	 * 각 항목의 수는 같은 종류의 조건만 그 항목으로 바꿔 검색했을 때의 매물 수입니다.
+	 * @param filters 현재 검색 조건
+	 * @return 유형, 거래 유형, 군/구, 가격 구간별 매물 수
+	 */
+	PropertyFacets getFacets(PropertyFilter filters);
+
+	/**
+	 * 시/도 목록과 시/도별 거래 가능 매물 수를 조회합니다. (지역 선택 화면용)
+	 * @return 기본 지역과 매물이 등록된 지역을 합친 시/도 목록
+	 */
+	List<RegionCount> getCities();
+
+	/**
+	 * 시/도에 속한 군/구 목록과 군/구별 거래 가능 매물 수를 조회합니다.
+	 * @param city 시/도
+	 * @return 군/구 목록 (군/구가 없는 시/도면 빈 목록)
+	 */
+	List<RegionCount> getDistricts(String city);
+
 	// 매물 ID로 매물 조회
 	Property findPropertyById(Long propertyId);
 
+	/**
+	 * 여러 매물을 한 번에 조회합니다. (목록 화면에서 매물마다 조회하지 않도록)
+	 * @param propertyIds 조회할 매물 ID 목록
+	 * @return ID별 매물 (존재하지 않는 ID는 포함되지 않음)
+	 */
+	Map<Long, Property> findPropertiesByIds(Collection<Long> propertyIds);
+
 	// 소유주 ID로 매물 조회
 	List<Property> findPropertiesByUserId(Long userId);
 
@@ -30,6 +83,15 @@ public interface IPropertyService {
 	 */
 	Property createProperty(User lessor, PropertyCreateRequest request);
 
+	/**
+	 * 여러 매물을 한 번에 등록합니다.
+	 * 입력값 검증에 실패하거나 저장에 실패한 행은 건너뛰고 나머지는 계속 등록합니다.
+	 * @param lessor 매물 등록자 (임대인)
+	 * @param requests 등록할 매물 정보 목록
+	 * @return 입력 순번(0부터)별 등록 결과 (성공한 매물은 입력 순서대로 생성된 ID를 가진다)
+	 */
+	BatchResult<Integer, Property> createProperties(User lessor, List<PropertyCreateRequest> requests);
+
 	/**
 	 * 매물 정보를 수정합니다.
 	 * @param lessor 매물 소유자 (임대인)
@@ -1,12 +1,22 @@
 package service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import domain.Property;
 import domain.User;
+import dto.BatchResult;
+import dto.PropertyFacets;
 import dto.PropertyCreateRequest;
 import dto.PropertyFilter;
+import dto.PropertyPage;
 import dto.PropertyUpdateRequest;
+import dto.RegionCount;
 import exception.CustomException;
 import exception.ErrorCode;
 import repository.PropertyRepository;
@@ -14,13 +24,18 @@ import repository.UserRepository;
 import validator.PropertyValidator;
 
 public class PropertyService implements IPropertyService {
+	private static final int MAX_PAGE_SIZE = 100;
+	private static final String CURSOR_PREFIX = "id:";
+
 	private final PropertyRepository propertyRepository;
 	private final PropertyValidator validator;
+	private final RegionCatalog regionCatalog;
 
 	public PropertyService(PropertyRepository propertyRepository, UserRepository userRepository,
 		PropertyValidator validator) {
 		this.propertyRepository = propertyRepository;
 		this.validator = validator;
+		this.regionCatalog = new RegionCatalog(propertyRepository);
 	}
 
 	@Override
@@ -29,12 +44,73 @@ public class PropertyService implements IPropertyService {
 		return propertyRepository.findByFilter(filters);
 	}
 
+	@Override
+	public PropertyPage findPropertiesByFilter(PropertyFilter filters, int pageSize, String cursor) {
+		if (pageSize <= 0 || pageSize > MAX_PAGE_SIZE)
+			throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "페이지 크기는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+
+		// 다음 페이지가 있는지 알기 위해 한 건 더 조회
+		Long afterId = decodeCursor(cursor);
+		List<Property> properties = propertyRepository.findByFilter(filters, afterId, pageSize + 1);
+		if (properties.size() <= pageSize)
+			return new PropertyPage(properties, null);
+
+		List<Property> content = properties.subList(0, pageSize);
+		return new PropertyPage(content, encodeCursor(content.get(pageSize - 1).getId()));
+	}
+
+	@Override
+	public Stream<Property> streamPropertiesByFilter(PropertyFilter filters, int fetchSize) {
+		if (fetchSize <= 0)
+			throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "fetchSize는 0보다 커야 합니다.");
+		return propertyRepository.streamByFilter(filters, fetchSize);
+	}
+
+	// 커서는 마지막으로 본 매물 ID를 감싼 문자열 (클라이언트는 내용을 해석하지 않는다)
+	private String encodeCursor(Long lastId) {
+		return Base64.getUrlEncoder().withoutPadding()
+			.encodeToString((CURSOR_PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+	}
+
+	private Long decodeCursor(String cursor) {
+		if (cursor == null || cursor.isEmpty())
+			return null;
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			if (!decoded.startsWith(CURSOR_PREFIX))
+				throw new IllegalArgumentException(decoded);
+			return Long.parseLong(decoded.substring(CURSOR_PREFIX.length()));
+		} catch (IllegalArgumentException e) {
+			throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 페이지 커서입니다.");
+		}
+	}
+
+	@Override
+	public PropertyFacets getFacets(PropertyFilter filters) {
+		return propertyRepository.countFacets(filters);
+	}
+
+	@Override
+	public List<RegionCount> getCities() {
+		return regionCatalog.getCities();
+	}
+
+	@Override
+	public List<RegionCount> getDistricts(String city) {
+		return regionCatalog.getDistricts(city);
+	}
+
 	@Override
 	public Property findPropertyById(Long propertyId) {
 		return propertyRepository.findById(propertyId)
 			.orElseThrow(() -> new CustomException(ErrorCode.PROPERTY_NOT_FOUND));
 	}
 
+	@Override
+	public Map<Long, Property> findPropertiesByIds(Collection<Long> propertyIds) {
+		return propertyRepository.findByIds(propertyIds);
+	}
+
 	@Override
 	public List<Property> findPropertiesByUserId(Long userId) {
 		return propertyRepository.findByOwnerId(userId);
@@ -59,6 +135,43 @@ public class PropertyService implements IPropertyService {
 		return propertyRepository.save(property);
 	}
 
+	@Override
+	public BatchResult<Integer, Property> createProperties(User lessor, List<PropertyCreateRequest> requests) {
+		// 1. 사용자 역할 검증 (권한이 없으면 전체 실패)
+		validator.validateLessor(lessor);
+
+		// 2. 입력값을 미리 모두 검증하고, 통과한 행만 저장 대상으로 모은다.
+		BatchResult<Integer, Property> result = new BatchResult<>();
+		List<Property> properties = new ArrayList<>();
+		List<Integer> requestIndexes = new ArrayList<>();
+		for (int i = 0; i < requests.size(); i++) {
+			PropertyCreateRequest request = requests.get(i);
+			try {
+				validator.validateCreateRequest(request);
+			} catch (CustomException e) {
+				result.addFailure(i, e);
+				continue;
+			}
+			properties.add(new Property(
+				null,
+				lessor.getId(),
+				request.getLocation(),
+				request.getPrice(),
+				request.getPropertyType(),
+				request.getDealType()
+			));
+			requestIndexes.add(i);
+		}
+
+		// 3. 배치 저장 후 저장 대상 순번을 입력 순번으로 되돌린다.
+		BatchResult<Integer, Property> inserted = propertyRepository.insertAll(properties);
+		for (Map.Entry<Integer, Property> entry : inserted.getSucceeded().entrySet())
+			result.addSuccess(requestIndexes.get(entry.getKey()), entry.getValue());
+		for (Map.Entry<Integer, RuntimeException> entry : inserted.getFailures().entrySet())
+			result.addFailure(requestIndexes.get(entry.getKey()), entry.getValue());
+		return result;
+	}
+
 	@Override
 	public Property updateProperty(User lessor, Long propertyId, PropertyUpdateRequest request) {
 		Property property = propertyRepository.findById(propertyId)
@@ -0,0 +1,88 @@
+package service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import domain.Location;
+import dto.RegionCount;
+import repository.PropertyRepository;
+
+/**
+ * 시/도 → 군/구 지역 목록과 지역별 거래 가능 매물 수
+ * - 기본 지역 목록에 실제 매물이 등록된 지역을 더해 만든다. (기본 목록은 순서대로, 추가된 지역은 이름순)
+ * - 매물 수는 PropertyRepository.countAvailableByRegion에서 가져온다. (검색 인덱스를 쓰면 메모리에서 바로 조회)
+ */
+public class RegionCatalog {
+	// 매물이 아직 없어도 등록/검색 화면에 보여줄 기본 지역
+	private static final Map<String, List<String>> DEFAULT_REGIONS = new LinkedHashMap<>();
+
+	static {
+		DEFAULT_REGIONS.put("서울특별시", List.of("강남구", "서초구", "마포구", "종로구", "중구"));
+		DEFAULT_REGIONS.put("경기도", List.of("수원시", "성남시", "안양시", "부천시", "의정부시"));
+		DEFAULT_REGIONS.put("인천광역시", List.of("연수구"));
+		DEFAULT_REGIONS.put("부산광역시", List.of("해운대구"));
+		DEFAULT_REGIONS.put("대구광역시", List.of("중구"));
+		DEFAULT_REGIONS.put("광주광역시", List.of());
+		DEFAULT_REGIONS.put("대전광역시", List.of());
+		DEFAULT_REGIONS.put("울산광역시", List.of());
+	}
+
+	private final PropertyRepository propertyRepository;
+
+	public RegionCatalog(PropertyRepository propertyRepository) {
+		this.propertyRepository = propertyRepository;
+	}
+
+	// 시/도 목록 (매물 수는 소속 군/구의 합)
+	public List<RegionCount> getCities() {
+		Map<String, Map<String, Integer>> tree = buildTree();
+		List<RegionCount> cities = new ArrayList<>(tree.size());
+		for (Map.Entry<String, Map<String, Integer>> entry : tree.entrySet()) {
+			int total = 0;
+			for (int count : entry.getValue().values())
+				total += count;
+			cities.add(new RegionCount(entry.getKey(), null, total));
+		}
+		return cities;
+	}
+
+	// 시/도에 속한 군/구 목록 (없는 시/도면 빈 목록)
+	public List<RegionCount> getDistricts(String city) {
+		Map<String, Integer> districts = buildTree().get(city);
+		List<RegionCount> result = new ArrayList<>();
+		if (districts == null)
+			return result;
+		for (Map.Entry<String, Integer> entry : districts.entrySet())
+			result.add(new RegionCount(city, entry.getKey(), entry.getValue()));
+		return result;
+	}
+
+	// 시/도 → (군/구 → 매물 수), 기본 지역이 먼저 오고 매물에서 발견된 지역이 이름순으로 뒤에 붙는다.
+	private Map<String, Map<String, Integer>> buildTree() {
+		Map<Location, Integer> counts = propertyRepository.countAvailableByRegion();
+
+		Map<String, TreeSet<String>> discovered = new TreeMap<>();
+		for (Location location : counts.keySet()) {
+			List<String> defaults = DEFAULT_REGIONS.get(location.getCity());
+			if (defaults == null || !defaults.contains(location.getDistrict()))
+				discovered.computeIfAbsent(location.getCity(), key -> new TreeSet<>()).add(location.getDistrict());
+		}
+
+		Map<String, Map<String, Integer>> tree = new LinkedHashMap<>();
+		for (Map.Entry<String, List<String>> entry : DEFAULT_REGIONS.entrySet()) {
+			Map<String, Integer> districts = tree.computeIfAbsent(entry.getKey(), key -> new LinkedHashMap<>());
+			for (String district : entry.getValue())
+				districts.put(district, counts.getOrDefault(new Location(entry.getKey(), district), 0));
+		}
+		for (Map.Entry<String, TreeSet<String>> entry : discovered.entrySet()) {
+			Map<String, Integer> districts = tree.computeIfAbsent(entry.getKey(), key -> new LinkedHashMap<>());
+			for (String district : entry.getValue())
+				districts.put(district, counts.get(new Location(entry.getKey(), district)));
+		}
+		return tree;
+	}
+}
@@ -0,0 +1,102 @@
+package view;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Scanner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import config.ServiceExecutors;
+import repository.UserRepository;
+import service.IAuthService;
+import service.IContractRequestService;
+import service.IContractService;
+import service.IPropertyService;
+import view.ui.SessionOutput;
+
+/**
+ * 여러 사용자가 동시에 접속하는 콘솔 서버 (telnet, nc 등으로 접속)
+ * - 접속마다 소켓 입출력에 연결된 MainView를 만들고 세션 전용 스레드에서 실행한다.
+ * - 세션 스레드는 가상 스레드를 사용하고, 지원하지 않는 JDK에서는 플랫폼 스레드를 세션마다 만든다.
+ * - Repository와 Service는 Main에서 만든 객체를 모든 세션이 함께 사용한다.
+ * - 외부에서 직접 접속하지 못하도록 루프백 주소에만 바인딩한다.
+ */
+public class ConsoleServer {
+	private final int port;
+	private final IAuthService authService;
+	private final IPropertyService propertyService;
+	private final IContractRequestService requestService;
+	private final IContractService contractService;
+	private final UserRepository userRepository;
+
+	private final AtomicInteger activeSessions = new AtomicInteger();
+
+	public ConsoleServer(int port, IAuthService authService, IPropertyService propertyService,
+		IContractRequestService requestService, IContractService contractService, UserRepository userRepository) {
+		this.port = port;
+		this.authService = authService;
+		this.propertyService = propertyService;
+		this.requestService = requestService;
+		this.contractService = contractService;
+		this.userRepository = userRepository;
+	}
+
+	// 접속을 계속 받는다. (반환하지 않음)
+	public void start() {
+		SessionOutput.install();
+		ExecutorService sessions = newSessionExecutor();
+
+		try (ServerSocket serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress())) {
+			System.out.println("✅ 콘솔 서버 시작: " + serverSocket.getLocalSocketAddress());
+			while (true) {
+				Socket socket = serverSocket.accept();
+				sessions.execute(() -> serve(socket));
+			}
+		} catch (IOException e) {
+			throw new RuntimeException("콘솔 서버 실행에 실패했습니다.", e);
+		} finally {
+			sessions.shutdownNow();
+		}
+	}
+
+	// 세션 하나를 처리한다. 클라이언트가 연결을 끊으면 입력이 끝나 MainView가 반환된다.
+	private void serve(Socket socket) {
+		activeSessions.incrementAndGet();
+		try (socket;
+			 Scanner scanner = new Scanner(socket.getInputStream(), StandardCharsets.UTF_8);
+			 PrintStream out = new PrintStream(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+			SessionOutput.bind(out);
+			new MainView(scanner, false, authService, propertyService, requestService, contractService, userRepository)
+				.start();
+		} catch (IOException | RuntimeException e) {
+			// 한 세션의 오류가 서버 전체를 멈추지 않도록 기록만 한다.
+			System.err.println("세션 처리 중 오류가 발생했습니다: " + e.getMessage());
+		} finally {
+			SessionOutput.unbind();
+			activeSessions.decrementAndGet();
+		}
+	}
+
+	public int getActiveSessions() {
+		return activeSessions.get();
+	}
+
+	private ExecutorService newSessionExecutor() {
+		ExecutorService virtual = ServiceExecutors.newVirtualThreadExecutor();
+		if (virtual != null)
+			return virtual;
+
+		// 세션은 대부분의 시간을 입력 대기로 보내므로 개수 제한 없이 세션마다 스레드를 만든다.
+		AtomicInteger sequence = new AtomicInteger();
+		return Executors.newCachedThreadPool(runnable -> {
+			Thread thread = new Thread(runnable, "console-session-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+}
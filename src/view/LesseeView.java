@@ -1,8 +1,12 @@
 package view;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.function.UnaryOperator;
 
 import domain.ContractRequest;
 import domain.Property;
@@ -10,13 +14,20 @@ import domain.User;
 import domain.enums.DealType;
 import domain.enums.PropertyType;
 import domain.enums.RequestStatus;
+import dto.BatchResult;
+import dto.ContractRequestView;
+import dto.PropertyFacets;
 import dto.PropertyFilter;
+import dto.PropertyPage;
+import dto.RegionCount;
 import service.IContractRequestService;
 import service.IContractService;
 import service.IPropertyService;
 import view.ui.UIHelper;
 
 public class LesseeView {
+	private static final int SEARCH_PAGE_SIZE = 10;
+
 	private final Scanner scanner;
 	private final User lessee;
 	private final IPropertyService propertyService;
@@ -136,8 +147,7 @@ public class LesseeView {
 			filterBuilder.maxPrice(maxPrice.longValue());
 
 		PropertyFilter filter = filterBuilder.build();
-		List<Property> searchResults = propertyService.findPropertiesByFilter(filter);
-		showSearchResults(searchResults);
+		showSearchResults(filter);
 	}
 
 	// 매물 필터링 - 유형
@@ -210,27 +220,21 @@ public class LesseeView {
 
 	// 매물 필터링 - 지역 대분류
 	private String selectLocation() {
+		List<RegionCount> cities = propertyService.getCities();
 		String majorRegion;
 		while (true) {
 			UIHelper.clearScreen();
 			UIHelper.printHeader("부동산 플랫폼");
 
-			String regionContent = "매물 검색 - 대분류 지역\n" +
-				"\n" +
-				"1. 서울특별시\n" +
-				"2. 경기도\n" +
-				"3. 인천광역시\n" +
-				"4. 부산광역시\n" +
-				"5. 대구광역시\n" +
-				"6. 광주광역시\n" +
-				"7. 대전광역시\n" +
-				"8. 울산광역시\n" +
-				"0. 이전 메뉴로 돌아가기\n" +
+			StringBuilder content = new StringBuilder();
+			content.append("매물 검색 - 대분류 지역\n\n");
+			appendRegions(content, cities);
+			content.append("0. 이전 메뉴로 돌아가기\n" +
 				"\n" +
 				"설정하지 않을 경우: 엔터를 눌러주세요\n" +
-				"이전 메뉴로 돌아가려면: 0을 눌러주세요";
+				"이전 메뉴로 돌아가려면: 0을 눌러주세요");
 
-			UIHelper.printBox(lessee.getEmail(), "지역 선택", regionContent);
+			UIHelper.printBox(lessee.getEmail(), "지역 선택", content.toString());
 			System.out.print("\u001B[33m선택: \u001B[0m");
 
 			String choice = scanner.nextLine().trim();
@@ -239,83 +243,41 @@ public class LesseeView {
 			if (choice.equals("0"))
 				return "BACK";
 
-			switch (choice) {
-				case "1":
-					majorRegion = "서울특별시";
-					break;
-				case "2":
-					majorRegion = "경기도";
-					break;
-				case "3":
-					majorRegion = "인천광역시";
-					break;
-				case "4":
-					majorRegion = "부산광역시";
-					break;
-				case "5":
-					majorRegion = "대구광역시";
-					break;
-				case "6":
-					majorRegion = "광주광역시";
-					break;
-				case "7":
-					majorRegion = "대전광역시";
-					break;
-				case "8":
-					majorRegion = "울산광역시";
-					break;
-				default:
-					System.out.print("❌ 잘못된 선택입니다. 1-8 중에서 선택해주세요: ");
-					continue;
+			RegionCount selected = findRegion(cities, choice);
+			if (selected == null) {
+				System.out.print("❌ 잘못된 선택입니다. 1-" + cities.size() + " 중에서 선택해주세요: ");
+				continue;
 			}
+			if (!hasListings(selected))
+				continue;
+			majorRegion = selected.getCity();
 			break;
 		}
 
-		String middleRegion = selectMiddleRegion(majorRegion);
+		// 군/구 구분이 없는 시/도는 시/도 단위로 검색
+		List<RegionCount> districts = propertyService.getDistricts(majorRegion);
+		if (districts.isEmpty())
+			return majorRegion;
+
+		String middleRegion = selectMiddleRegion(majorRegion, districts);
 		if (middleRegion != null && middleRegion.equals("BACK"))
 			return "BACK";
+		if (middleRegion == null)
+			return majorRegion;
 
 		return majorRegion + " " + middleRegion;
 	}
 
 	// 매물 필터링 - 지역 중분류
-	private String selectMiddleRegion(String majorRegion) {
+	private String selectMiddleRegion(String majorRegion, List<RegionCount> districts) {
 		while (true) {
 			UIHelper.clearScreen();
 			UIHelper.printHeader("부동산 플랫폼");
 
 			StringBuilder content = new StringBuilder();
-			content.append("매물 검색 - 중분류 지역\n\n");
-
-			switch (majorRegion) {
-				case "서울특별시":
-					content.append("1. 강남구\n");
-					content.append("2. 서초구\n");
-					content.append("3. 마포구\n");
-					content.append("4. 종로구\n");
-					content.append("5. 중구");
-					break;
-				case "경기도":
-					content.append("1. 수원시\n");
-					content.append("2. 성남시\n");
-					content.append("3. 안양시\n");
-					content.append("4. 부천시\n");
-					content.append("5. 의정부시");
-					break;
-				case "인천광역시":
-					content.append("1. 연수구");
-					break;
-				case "부산광역시":
-					content.append("1. 해운대구");
-					break;
-				case "대구광역시":
-					content.append("1. 중구");
-					break;
-				default:
-					return null;
-			}
-
-			content.append("\n\n0. 이전 메뉴로 돌아가기\n");
+			content.append("매물 검색 - 중분류 지역 (" + majorRegion + ")\n\n");
+			appendRegions(content, districts);
+			content.append("\n0. 이전 메뉴로 돌아가기\n");
 			content.append("설정하지 않을 경우: 엔터를 눌러주세요\n" +
 				"이전 메뉴로 돌아가려면: 0을 눌러주세요");
 
@@ -328,53 +290,47 @@ public class LesseeView {
 			if (choice.equals("0"))
 				return "BACK";
 
-			try {
-				int index = Integer.parseInt(choice);
-				switch (majorRegion) {
-					case "서울특별시":
-						if (index == 1)
-							return "강남구";
-						if (index == 2)
-							return "서초구";
-						if (index == 3)
-							return "마포구";
-						if (index == 4)
-							return "종로구";
-						if (index == 5)
-							return "중구";
-						break;
-					case "경기도":
-						if (index == 1)
-							return "수원시";
-						if (index == 2)
-							return "성남시";
-						if (index == 3)
-							return "안양시";
-						if (index == 4)
-							return "부천시";
-						if (index == 5)
-							return "의정부시";
-						break;
-					case "인천광역시":
-						if (index == 1)
-							return "연수구";
-						break;
-					case "부산광역시":
-						if (index == 1)
-							return "해운대구";
-						break;
-					case "대구광역시":
-						if (index == 1)
-							return "중구";
-						break;
-				}
-			} catch (NumberFormatException e) {
-				// Ignore
+			RegionCount selected = findRegion(districts, choice);
+			if (selected == null) {
+				System.out.print("❌ 잘못된 번호입니다. 다시 선택해주세요: ");
+				continue;
 			}
-			System.out.print("❌ 잘못된 번호입니다. 다시 선택해주세요: ");
+			if (hasListings(selected))
+				return selected.getDistrict();
 		}
 	}
 
+	// 지역 목록을 "번호. 이름 (매물 N건)" 형식으로 추가
+	private void appendRegions(StringBuilder content, List<RegionCount> regions) {
+		for (int i = 0; i < regions.size(); i++) {
+			RegionCount region = regions.get(i);
+			content.append(i + 1).append(". ").append(region.getName())
+				.append(" (매물 ").append(region.getAvailableCount()).append("건)\n");
+		}
+	}
+
+	// 입력한 번호의 지역 (잘못된 번호면 null)
+	private RegionCount findRegion(List<RegionCount> regions, String choice) {
+		try {
+			int index = Integer.parseInt(choice);
+			if (index >= 1 && index <= regions.size())
+				return regions.get(index - 1);
+		} catch (NumberFormatException e) {
+			// Ignore
+		}
+		return null;
+	}
+
+	// 매물이 없는 지역은 검색하지 않고 다시 선택하도록 안내
+	private boolean hasListings(RegionCount region) {
+		if (region.getAvailableCount() > 0)
+			return true;
+		System.out.println("❌ " + region.getName() + "에는 거래 가능한 매물이 없습니다. 다른 지역을 선택해주세요.");
+		System.out.print("계속하려면 Enter를 누르세요: ");
+		scanner.nextLine();
+		return false;
+	}
+
 	// 매물 필터링 - 거래 유형
 	private String selectDealType() {
 		while (true) {
@@ -499,23 +455,66 @@ public class LesseeView {
 		}
 	}
 
-	// 매물 검색 결과 표시
-	private void showSearchResults(List<Property> searchResults) {
-		UIHelper.clearScreen();
-		UIHelper.printHeader("부동산 플랫폼");
+	// 매물 검색 결과 표시 (한 페이지씩)
+	private void showSearchResults(PropertyFilter filter) {
+		// 이전 페이지로 돌아가기 위한 커서 기록 (첫 페이지는 빈 문자열)
+		Deque<String> previousCursors = new ArrayDeque<>();
+		String cursor = null;
+		// 조건 좁히기 화면에 보여줄 항목별 매물 수 (조건이 바뀔 때만 다시 조회)
+		PropertyFacets facets = propertyService.getFacets(filter);
 
-		if (searchResults.isEmpty()) {
-			String content = "검색 조건에 맞는 매물이 없습니다.\n\n" +
-				"다른 조건으로 다시 검색해보세요.";
+		while (true) {
+			PropertyPage page = propertyService.findPropertiesByFilter(filter, SEARCH_PAGE_SIZE, cursor);
+			UIHelper.clearScreen();
+			UIHelper.printHeader("부동산 플랫폼");
 
-			UIHelper.printBox(lessee.getEmail(), "검색 결과", content);
-			System.out.print("계속하려면 Enter를 누르세요: ");
-			scanner.nextLine();
-			return;
+			if (page.isEmpty()) {
+				String content = "검색 조건에 맞는 매물이 없습니다.\n\n" +
+					"다른 조건으로 다시 검색해보세요.";
+
+				UIHelper.printBox(lessee.getEmail(), "검색 결과", content);
+				System.out.print("계속하려면 Enter를 누르세요: ");
+				scanner.nextLine();
+				return;
+			}
+
+			printSearchResults(page, previousCursors.size() + 1, !previousCursors.isEmpty(), facets.getTotal());
+			String choice = scanner.nextLine();
+			String trimmed = choice.trim().toLowerCase();
+
+			if (trimmed.equals("f")) {
+				PropertyFilter refined = refineFilter(filter, facets);
+				if (refined != null) {
+					filter = refined;
+					facets = propertyService.getFacets(filter);
+					previousCursors.clear();
+					cursor = null;
+				}
+				continue;
+			}
+
+			if (trimmed.equals("n") && page.hasNext()) {
+				previousCursors.push(cursor == null ? "" : cursor);
+				cursor = page.getNextCursor();
+				continue;
+			}
+			if (trimmed.equals("p") && !previousCursors.isEmpty()) {
+				String previous = previousCursors.pop();
+				cursor = previous.isEmpty() ? null : previous;
+				continue;
+			}
+
+			// r을 선택하면 같은 페이지에서 매물을 다시 선택
+			if (!processContractRequest(page.getContent(), choice))
+				return;
 		}
+	}
 
+	private void printSearchResults(PropertyPage page, int pageNumber, boolean hasPrevious, int total) {
+		List<Property> searchResults = page.getContent();
 		StringBuilder content = new StringBuilder();
-		content.append("검색된 매물 상세 정보 (" + searchResults.size() + "개):\n\n");
+		content.append("검색된 매물 상세 정보 (전체 " + total + "개 중 " + pageNumber + "페이지, " + searchResults.size()
+			+ "개):\n\n");
 
 		for (int i = 0; i < searchResults.size(); i++) {
 			Property property = searchResults.get(i);
@@ -530,18 +529,104 @@ public class LesseeView {
 			content.append("\n");
 		}
 
+		if (page.hasNext())
+			content.append("n: 다음 페이지\n");
+		if (hasPrevious)
+			content.append("p: 이전 페이지\n");
+		content.append("f: 조건 좁히기 (유형/거래 유형/지역/가격별 매물 수 보기)\n");
 		content.append("계약 요청할 매물을 선택하세요 (번호 입력, 여러 개 선택 가능):");
 
 		UIHelper.printBox(lessee.getEmail(), "검색 결과", content.toString());
 		System.out.print("\u001B[33m선택: \u001B[0m");
+	}
+
+	/**
+	 * 검색 결과에서 조건 하나를 바꿔 다시 검색 (항목마다 바꿨을 때의 매물 수를 함께 보여준다)
+	 * @return 바뀐 검색 조건 (취소하면 null)
+	 */
+	private PropertyFilter refineFilter(PropertyFilter filter, PropertyFacets facets) {
+		// 매물이 없는 항목은 보여주지 않는다.
+		List<UnaryOperator<PropertyFilter.Builder>> options = new ArrayList<>();
+		StringBuilder content = new StringBuilder("바꿀 조건을 선택하세요 (괄호 안은 바꿨을 때의 매물 수):\n");
+
+		content.append("\n[매물 유형]\n");
+		for (Map.Entry<PropertyType, Integer> entry : facets.getByPropertyType().entrySet()) {
+			if (entry.getValue() == 0)
+				continue;
+			PropertyType type = entry.getKey();
+			options.add(builder -> builder.propertyTypes(List.of(type)));
+			appendOption(content, options.size(), UIHelper.getPropertyTypeDisplayName(type), entry.getValue());
+		}
+
+		content.append("\n[거래 유형]\n");
+		for (Map.Entry<DealType, Integer> entry : facets.getByDealType().entrySet()) {
+			if (entry.getValue() == 0)
+				continue;
+			DealType type = entry.getKey();
+			options.add(builder -> builder.dealTypes(List.of(type)));
+			appendOption(content, options.size(), UIHelper.getDealTypeDisplayName(type), entry.getValue());
+		}
+
+		content.append("\n[지역]\n");
+		for (Map.Entry<String, Integer> entry : facets.getByDistrict().entrySet()) {
+			if (entry.getValue() == 0)
+				continue;
+			String district = entry.getKey();
+			options.add(builder -> builder.district(district));
+			appendOption(content, options.size(), district, entry.getValue());
+		}
+
+		content.append("\n[가격]\n");
+		for (PropertyFacets.PriceBucket bucket : facets.getPriceBuckets()) {
+			if (bucket.getCount() == 0)
+				continue;
+			options.add(builder -> builder.minPrice(bucket.getMin()).maxPrice(bucket.getMax()));
+			String label = bucket.isUnbounded()
+				? String.format("%,d원 이상", bucket.getMin())
+				: String.format("%,d원 ~ %,d원", bucket.getMin(), bucket.getMax());
+			appendOption(content, options.size(), label, bucket.getCount());
+		}
+		content.append("\n취소하려면: 엔터를 눌러주세요");
+
+		while (true) {
+			UIHelper.clearScreen();
+			UIHelper.printHeader("부동산 플랫폼");
+			UIHelper.printBox(lessee.getEmail(), "조건 좁히기", content.toString());
+			System.out.print("\u001B[33m선택: \u001B[0m");
+
+			String choice = scanner.nextLine().trim();
+			if (choice.isEmpty())
+				return null;
+			try {
+				int index = Integer.parseInt(choice);
+				if (index >= 1 && index <= options.size())
+					return options.get(index - 1).apply(toBuilder(filter)).build();
+			} catch (NumberFormatException e) {
+				// Ignore
+			}
+			System.out.println("❌ 잘못된 번호입니다.");
+			System.out.print("계속하려면 Enter를 누르세요: ");
+			scanner.nextLine();
+		}
+	}
 
-		String choice = scanner.nextLine();
-		processContractRequest(searchResults, choice);
+	private void appendOption(StringBuilder content, int number, String label, int count) {
+		content.append(number).append(". ").append(label).append(" (").append(count).append(")\n");
+	}
+
+	private PropertyFilter.Builder toBuilder(PropertyFilter filter) {
+		return PropertyFilter.builder()
+			.city(filter.getCity())
+			.district(filter.getDistrict())
+			.propertyTypes(filter.getPropertyTypes())
+			.dealTypes(filter.getDealTypes())
+			.minPrice(filter.getMinPrice())
+			.maxPrice(filter.getMaxPrice());
 	}
 
 	// ======================================= 계약요청 =======================================
-	// 계약 요청 처리
-	private void processContractRequest(List<Property> searchResults, String choice) {
+	// 계약 요청 처리 (매물을 다시 선택하려면 true 반환)
+	private boolean processContractRequest(List<Property> searchResults, String choice) {
 		UIHelper.clearScreen();
 		UIHelper.printHeader("부동산 플랫폼");
 
@@ -564,7 +649,7 @@ public class LesseeView {
 			UIHelper.printBox(lessee.getEmail(), "계약 요청", content);
 			System.out.print("계속하려면 Enter를 누르세요: ");
 			scanner.nextLine();
-			return;
+			return false;
 		}
 
 		StringBuilder content = new StringBuilder();
@@ -588,29 +673,50 @@ public class LesseeView {
 		String confirmChoice = scanner.nextLine().trim().toLowerCase();
 
 		if (confirmChoice.equals("y")) {
+			List<Long> propertyIds = new ArrayList<>();
 			for (Property property : selectedProperties)
-				requestService.createRequest(lessee, property.getId());
+				propertyIds.add(property.getId());
+			BatchResult<Long, ContractRequest> result = requestService.createRequests(lessee, propertyIds);
 
 			UIHelper.clearScreen();
 			UIHelper.printHeader("부동산 플랫폼");
 
 			StringBuilder successContent = new StringBuilder();
-			successContent.append("✅ 계약 요청이 성공적으로 제출되었습니다!\n\n");
-			successContent.append("📋 요청된 매물:\n\n");
+			if (result.getSuccessCount() > 0) {
+				successContent.append("✅ 계약 요청이 성공적으로 제출되었습니다!\n\n");
+				successContent.append("📋 요청된 매물:\n\n");
+			} else {
+				successContent.append("❌ 계약 요청을 제출하지 못했습니다.\n\n");
+			}
 
 			for (Property property : selectedProperties) {
+				if (!result.getSucceeded().containsKey(property.getId()))
+					continue;
 				successContent.append("   • " + UIHelper.getPropertyTypeDisplayName(property.getPropertyType()) +
 					" - " + property.getLocation().getCity() + " " + property.getLocation()
 					.getDistrict() + "\n");
 			}
 
-			successContent.append("\n⏰ 임대인의 승인을 기다려주세요!");
+			if (result.hasFailures()) {
+				successContent.append("\n⚠️  요청하지 못한 매물:\n\n");
+				for (Property property : selectedProperties) {
+					RuntimeException failure = result.getFailures().get(property.getId());
+					if (failure == null)
+						continue;
+					successContent.append("   • " + UIHelper.getPropertyTypeDisplayName(property.getPropertyType()) +
+						" - " + property.getLocation().getCity() + " " + property.getLocation().getDistrict() +
+						" (" + failure.getMessage() + ")\n");
+				}
+			}
+
+			if (result.getSuccessCount() > 0)
+				successContent.append("\n⏰ 임대인의 승인을 기다려주세요!");
 
 			UIHelper.printBox(lessee.getEmail(), "계약 요청 완료", successContent.toString());
 			System.out.print("계속하려면 Enter를 누르세요: ");
 			scanner.nextLine();
 		} else if (confirmChoice.equals("r")) {
-			showSearchResults(searchResults);
+			return true;
 		} else {
 			UIHelper.clearScreen();
 			UIHelper.printHeader("부동산 플랫폼");
@@ -620,6 +726,7 @@ public class LesseeView {
 			System.out.print("계속하려면 Enter를 누르세요: ");
 			scanner.nextLine();
 		}
+		return false;
 	}
 
 	// 내 계약 요청 조회
@@ -627,9 +734,10 @@ public class LesseeView {
 		UIHelper.clearScreen();
 		UIHelper.printHeader("부동산 플랫폼");
 
-		List<ContractRequest> myRequests = requestService.findContractRequestsByUserId(lessee.getId())
+		// 요청, 매물, 임대인 정보를 한 번의 쿼리로 가져온다.
+		List<ContractRequestView> myRequests = requestService.findContractRequestViewsByUserId(lessee.getId())
 			.stream()
-			.filter(request -> request.getStatus() != domain.enums.RequestStatus.COMPLETED)
+			.filter(view -> view.getRequest().getStatus() != domain.enums.RequestStatus.COMPLETED)
 			.toList();
 
 		if (myRequests.isEmpty()) {
@@ -644,8 +752,8 @@ public class LesseeView {
 		}
 
 		int approvedCount = 0, rejectedCount = 0, pendingCount = 0, completedCount = 0;
-		for (ContractRequest request : myRequests) {
-			switch (request.getStatus()) {
+		for (ContractRequestView view : myRequests) {
+			switch (view.getRequest().getStatus()) {
 				case APPROVED:
 					approvedCount++;
 					break;
@@ -665,7 +773,8 @@ public class LesseeView {
 		content.append("내 계약 요청 목록\n\n");
 
 		for (int i = 0; i < myRequests.size(); i++) {
-			ContractRequest request = myRequests.get(i);
+			ContractRequest request = myRequests.get(i).getRequest();
+			Property property = myRequests.get(i).getProperty();
 
 			String statusEmoji = "";
 			switch (request.getStatus()) {
@@ -683,9 +792,11 @@ public class LesseeView {
 					break;
 			}
 
-			content.append(String.format("%d. 매물ID:%d %s\n",
+			content.append(String.format("%d. %s %s %s > %s\n",
 				(i + 1),
-				request.getPropertyId(),
+				property.getLocation().getCity() + " " + property.getLocation().getDistrict(),
+				UIHelper.getPropertyTypeDisplayName(property.getPropertyType()),
+				UIHelper.getDealTypeDisplayName(property.getDealType()),
 				statusEmoji + " " + UIHelper.getRequestStatusDisplayName(request.getStatus())
 			));
 		}
@@ -723,17 +834,14 @@ public class LesseeView {
 	}
 
 	// 계약 요청 상세 조회
-	private void showContractRequestDetail(ContractRequest request) {
+	private void showContractRequestDetail(ContractRequestView view) {
 		UIHelper.clearScreen();
 		UIHelper.printHeader("부동산 플랫폼");
 
-		// 매물 정보 가져오기
-		Property property = null;
-		try {
-			property = propertyService.findPropertyById(request.getPropertyId());
-		} catch (Exception e) {
-			// 매물을 찾을 수 없는 경우 null로 처리
-		}
+		// 매물, 임대인 정보는 목록 조회 시 함께 가져왔다.
+		ContractRequest request = view.getRequest();
+		Property property = view.getProperty();
+		User lessor = view.getCounterparty();
 
 		StringBuilder content = new StringBuilder();
 		content.append("=== 계약 요청 상세 정보 ===\n\n");
@@ -757,9 +865,9 @@ public class LesseeView {
 		// 승인된 요청인 경우 임대인 연락처 정보 추가
 		if (request.getStatus() == domain.enums.RequestStatus.APPROVED && property != null) {
 			content.append("\n=== 임대인 연락처 정보 ===\n");
-			content.append("📧 이메일: lessor@test\n");
-			content.append("📞 전화번호: 010-1111-2222\n");
-			content.append("📍 주소: 서울특별시 강남구 테헤란로 123\n");
+			content.append("📧 이메일: " + lessor.getEmail() + "\n");
+			content.append("📞 전화번호: " + lessor.getPhoneNumber() + "\n");
+			content.append("📍 주소: " + lessor.getAddress() + "\n");
 			content.append("\n💡 승인된 계약 요청입니다. 위 연락처로 임대인에게 연락하세요!\n");
 		}
 
@@ -774,7 +882,7 @@ public class LesseeView {
 		if (choice.equals("1")) {
 			viewMyContractRequests();
 		} else if (choice.equals("2")) {
-			contactLessor(request, property);
+			contactLessor(view);
 		} else if (choice.equals("0")) {
 			// 메인 메뉴로 돌아가기 - 아무것도 하지 않음 (showMenu()의 while 루프로 돌아감)
 			return;
@@ -782,12 +890,15 @@ public class LesseeView {
 			System.out.println("❌ 잘못된 선택입니다.");
 			System.out.print("계속하려면 Enter를 누르세요: ");
 			scanner.nextLine();
-			showContractRequestDetail(request);
+			showContractRequestDetail(view);
 		}
 	}
 
 	// 임대인에게 연락하기 (애니메이션 + 상태 변경)
-	private void contactLessor(ContractRequest request, Property property) {
+	private void contactLessor(ContractRequestView view) {
+		ContractRequest request = view.getRequest();
+		Property property = view.getProperty();
+
 		// 계약 요청 상태 확인
 		if (request.getStatus() != RequestStatus.APPROVED) {
 			UIHelper.clearScreen();
@@ -804,7 +915,7 @@ public class LesseeView {
 
 			String choice = scanner.nextLine().trim();
 			if (choice.equals("0")) {
-				showContractRequestDetail(request);
+				showContractRequestDetail(view);
 			}
 			return;
 		}
@@ -839,7 +950,7 @@ public class LesseeView {
 			
 			String choice = scanner.nextLine().trim();
 			if (choice.equals("0")) {
-				showContractRequestDetail(request);
+				showContractRequestDetail(view);
 			}
 			return;
 		}
@@ -920,9 +1031,10 @@ public class LesseeView {
 		UIHelper.clearScreen();
 		UIHelper.printHeader("부동산 플랫폼");
 
-		List<ContractRequest> myRequests = requestService.findContractRequestsByUserId(lessee.getId());
-		List<ContractRequest> completedRequests = myRequests.stream()
-			.filter(request -> request.getStatus() == domain.enums.RequestStatus.COMPLETED)
+		// 요청, 매물, 임대인 정보를 한 번의 쿼리로 가져온다.
+		List<ContractRequestView> completedRequests = requestService.findContractRequestViewsByUserId(lessee.getId())
+			.stream()
+			.filter(view -> view.getRequest().getStatus() == domain.enums.RequestStatus.COMPLETED)
 			.toList();
 
 		if (completedRequests.isEmpty()) {
@@ -940,8 +1052,7 @@ public class LesseeView {
 		content.append("완료된 계약 목록 (" + completedRequests.size() + "개)\n\n");
 
 		for (int i = 0; i < completedRequests.size(); i++) {
-			ContractRequest request = completedRequests.get(i);
-			Property property = propertyService.findPropertyById(request.getPropertyId());
+			Property property = completedRequests.get(i).getProperty();
 
 			content.append(String.format("%d. %s %s %s > 🎉 계약 완료\n",
 				(i + 1),
@@ -978,11 +1089,13 @@ public class LesseeView {
 	}
 
 	// 완료된 계약 상세보기
-	private void showCompletedContractDetail(ContractRequest request) {
+	private void showCompletedContractDetail(ContractRequestView view) {
 		UIHelper.clearScreen();
 		UIHelper.printHeader("부동산 플랫폼");
 
-		Property property = propertyService.findPropertyById(request.getPropertyId());
+		ContractRequest request = view.getRequest();
+		Property property = view.getProperty();
+		User lessor = view.getCounterparty();
 
 		StringBuilder content = new StringBuilder();
 		content.append("=== 완료된 계약 상세 정보 ===\n\n");
@@ -998,9 +1111,9 @@ public class LesseeView {
 		content.append("📊 매물 상태: " + UIHelper.getPropertyStatusDisplayName(property.getStatus()) + "\n");
 
 		content.append("\n=== 임대인 정보 ===\n");
-		content.append("📧 이메일: lessor@test\n");
-		content.append("📞 전화번호: 010-1111-2222\n");
-		content.append("📍 주소: 서울특별시 강남구 테헤란로 123\n");
+		content.append("📧 이메일: " + lessor.getEmail() + "\n");
+		content.append("📞 전화번호: " + lessor.getPhoneNumber() + "\n");
+		content.append("📍 주소: " + lessor.getAddress() + "\n");
 
 		content.append("\n1: 완료된 계약 목록으로 돌아가기\n");
 		content.append("0: 메인 메뉴로 돌아가기");
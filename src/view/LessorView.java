@@ -1,7 +1,6 @@
 package view;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.Scanner;
 
 import domain.ContractRequest;
@@ -12,8 +11,10 @@ import domain.User;
 import domain.enums.DealType;
 import domain.enums.PropertyType;
 import domain.enums.RequestStatus;
+import dto.ContractRequestView;
 import dto.PropertyCreateRequest;
 import dto.PropertyUpdateRequest;
+import dto.RegionCount;
 import repository.UserRepository;
 import service.IContractRequestService;
 import service.IPropertyService;
@@ -174,43 +175,55 @@ public class LessorView {
 		scanner.nextLine();
 	}
 
-	// 매물 등록 - 지역
+	// 매물 등록 - 지역 (시/도 → 군/구)
 	private Location selectLocationForRegistration() {
+		RegionCount city = selectRegionForRegistration("매물이 위치한 시/도를 선택하세요:", propertyService.getCities());
+		if (city == null)
+			return null;
+
+		List<RegionCount> districts = propertyService.getDistricts(city.getCity());
+		if (districts.isEmpty()) {
+			System.out.println("❌ " + city.getCity() + "에는 아직 등록할 수 있는 군/구가 없습니다.");
+			System.out.print("계속하려면 Enter를 누르세요: ");
+			scanner.nextLine();
+			return selectLocationForRegistration();
+		}
+		RegionCount district = selectRegionForRegistration(city.getCity() + "의 군/구를 선택하세요:", districts);
+		if (district == null)
+			return selectLocationForRegistration();
+		return new Location(district.getCity(), district.getDistrict());
+	}
+
+	// 번호로 지역 하나를 선택 (0이면 null)
+	private RegionCount selectRegionForRegistration(String title, List<RegionCount> regions) {
 		UIHelper.clearScreen();
 		UIHelper.printHeader("부동산 플랫폼");
 
-		String content = "매물 위치를 선택하세요:\n\n" +
-			"1. 서울특별시 강남구\n" +
-			"2. 서울특별시 서초구\n" +
-			"3. 서울특별시 마포구\n" +
-			"4. 경기도 수원시\n" +
-			"5. 경기도 성남시\n" +
-			"0. 이전 메뉴로 돌아가기";
+		StringBuilder content = new StringBuilder(title + "\n\n");
+		for (int i = 0; i < regions.size(); i++) {
+			RegionCount region = regions.get(i);
+			content.append(i + 1).append(". ").append(region.getName())
+				.append(" (거래 가능 매물 ").append(region.getAvailableCount()).append("건)\n");
+		}
+		content.append("0. 이전 메뉴로 돌아가기");
 
-		UIHelper.printBox(lessor.getEmail(), "지역 선택", content);
+		UIHelper.printBox(lessor.getEmail(), "지역 선택", content.toString());
 		System.out.print("\u001B[33m선택: \u001B[0m");
 
 		String choice = scanner.nextLine().trim();
 		if (choice.equals("0"))
 			return null;
-
-		switch (choice) {
-			case "1":
-				return new Location("서울특별시", "강남구");
-			case "2":
-				return new Location("서울특별시", "서초구");
-			case "3":
-				return new Location("서울특별시", "마포구");
-			case "4":
-				return new Location("경기도", "수원시");
-			case "5":
-				return new Location("경기도", "성남시");
-			default:
-				System.out.println("❌ 잘못된 선택입니다.");
-				System.out.print("계속하려면 Enter를 누르세요: ");
-				scanner.nextLine();
-				return selectLocationForRegistration();
+		try {
+			int index = Integer.parseInt(choice);
+			if (index >= 1 && index <= regions.size())
+				return regions.get(index - 1);
+		} catch (NumberFormatException e) {
+			// Ignore
 		}
+		System.out.println("❌ 잘못된 선택입니다.");
+		System.out.print("계속하려면 Enter를 누르세요: ");
+		scanner.nextLine();
+		return selectRegionForRegistration(title, regions);
 	}
 
 	// 매물 등록 - 가격
@@ -894,9 +907,10 @@ public class LessorView {
 		UIHelper.clearScreen();
 		UIHelper.printHeader("부동산 플랫폼");
 
-		List<ContractRequest> allRequests = contractService.findContractRequestsByPropertyOwnerId(lessor.getId())
+		// 요청, 매물, 요청자 정보를 한 번의 쿼리로 가져온다.
+		List<ContractRequestView> allRequests = contractService.findContractRequestViewsByPropertyOwnerId(lessor.getId())
 			.stream()
-			.filter(request -> request.getStatus() != RequestStatus.COMPLETED)
+			.filter(view -> view.getRequest().getStatus() != RequestStatus.COMPLETED)
 			.toList();
 
 		if (allRequests.isEmpty()) {
@@ -911,8 +925,8 @@ public class LessorView {
 		}
 
 		int approvedCount = 0, rejectedCount = 0, pendingCount = 0;
-		for (ContractRequest request : allRequests) {
-			switch (request.getStatus()) {
+		for (ContractRequestView view : allRequests) {
+			switch (view.getRequest().getStatus()) {
 				case APPROVED:
 					approvedCount++;
 					break;
@@ -932,8 +946,8 @@ public class LessorView {
 		content.append("계약 요청 목록\n\n");
 
 		for (int i = 0; i < allRequests.size(); i++) {
-			ContractRequest request = allRequests.get(i);
-			Property property = propertyService.findPropertyById(request.getPropertyId());
+			ContractRequest request = allRequests.get(i).getRequest();
+			Property property = allRequests.get(i).getProperty();
 
 			String statusText = "";
 			switch (request.getStatus()) {
@@ -992,7 +1006,9 @@ public class LessorView {
 	}
 
 	// 계약요청 상세보기
-	private void showContractRequestDetail(ContractRequest request) {
+	private void showContractRequestDetail(ContractRequestView view) {
+		ContractRequest request = view.getRequest();
+
 		// 디버그: 실제 요청 상태 확인
 		System.out.println("DEBUG: Request Status = " + request.getStatus());
 		System.out.println("DEBUG: Is APPROVED? = " + (request.getStatus() == RequestStatus.APPROVED));
@@ -1001,7 +1017,7 @@ public class LessorView {
 		UIHelper.clearScreen();
 		UIHelper.printHeader("부동산 플랫폼");
 
-		Property property = propertyService.findPropertyById(request.getPropertyId());
+		Property property = view.getProperty();
 
 		String statusEmoji = "";
 		switch (request.getStatus()) {
@@ -1036,18 +1052,13 @@ public class LessorView {
 
 		// 승인된 요청인 경우 임차인 연락처 정보 추가
 		if (request.getStatus() == RequestStatus.APPROVED) {
-			// 임차인 정보 가져오기
-			Optional<User> requesterOptional = userRepository.findById(request.getRequesterId());
-			if (requesterOptional.isPresent()) {
-				User requester = requesterOptional.get();
-				content.append("\n=== 임차인 연락처 정보 ===\n");
-				content.append("📧 이메일: " + requester.getEmail() + "\n");
-				content.append("📞 전화번호: " + requester.getPhoneNumber() + "\n");
-				content.append("📍 주소: " + requester.getAddress() + "\n");
-				content.append("\n💡 승인한 계약 요청입니다. 위 연락처로 임차인에게 연락하세요!\n");
-			} else {
-				content.append("\n임차인 정보를 찾을 수 없습니다.\n");
-			}
+			// 임차인 정보는 목록 조회 시 함께 가져왔다.
+			User requester = view.getCounterparty();
+			content.append("\n=== 임차인 연락처 정보 ===\n");
+			content.append("📧 이메일: " + requester.getEmail() + "\n");
+			content.append("📞 전화번호: " + requester.getPhoneNumber() + "\n");
+			content.append("📍 주소: " + requester.getAddress() + "\n");
+			content.append("\n💡 승인한 계약 요청입니다. 위 연락처로 임차인에게 연락하세요!\n");
 		}
 
 		if (request.getStatus() == RequestStatus.REQUESTED) {
@@ -1069,10 +1080,10 @@ public class LessorView {
 		if (request.getStatus() == RequestStatus.REQUESTED) {
 			switch (choice) {
 				case "1":
-					approveRequest(request);
+					approveRequest(view);
 					break;
 				case "2":
-					rejectRequest(request);
+					rejectRequest(view);
 					break;
 				case "3":
 					viewContractRequests();
@@ -1102,7 +1113,8 @@ public class LessorView {
 	}
 
 	// 계약요청 승인
-	private void approveRequest(ContractRequest request) {
+	private void approveRequest(ContractRequestView view) {
+		ContractRequest request = view.getRequest();
 		UIHelper.clearScreen();
 		UIHelper.printHeader("부동산 플랫폼");
 
@@ -1127,17 +1139,18 @@ public class LessorView {
 		String choice = scanner.nextLine().trim();
 		if (choice.equals("1")) {
 			// 승인된 요청의 최신 데이터로 상세보기
-			ContractRequest updatedRequest = contractService.findContractRequestsByPropertyOwnerId(lessor.getId())
+			ContractRequestView updatedView = contractService.findContractRequestViewsByPropertyOwnerId(lessor.getId())
 				.stream()
-				.filter(r -> r.getId().equals(request.getId()))
+				.filter(v -> v.getRequest().getId().equals(request.getId()))
 				.findFirst()
-				.orElse(request);
-			showContractRequestDetail(updatedRequest);
+				.orElse(view);
+			showContractRequestDetail(updatedView);
 		}
 	}
 
 	// 계약요청 반려
-	private void rejectRequest(ContractRequest request) {
+	private void rejectRequest(ContractRequestView view) {
+		ContractRequest request = view.getRequest();
 		UIHelper.clearScreen();
 		UIHelper.printHeader("부동산 플랫폼");
 
@@ -1161,12 +1174,12 @@ public class LessorView {
 		String choice = scanner.nextLine().trim();
 		if (choice.equals("1")) {
 			// 반려된 요청의 최신 데이터로 상세보기
-			ContractRequest updatedRequest = contractService.findContractRequestsByPropertyOwnerId(lessor.getId())
+			ContractRequestView updatedView = contractService.findContractRequestViewsByPropertyOwnerId(lessor.getId())
 				.stream()
-				.filter(r -> r.getId().equals(request.getId()))
+				.filter(v -> v.getRequest().getId().equals(request.getId()))
 				.findFirst()
-				.orElse(request);
-			showContractRequestDetail(updatedRequest);
+				.orElse(view);
+			showContractRequestDetail(updatedView);
 		}
 	}
 
@@ -1176,9 +1189,11 @@ public class LessorView {
 		UIHelper.clearScreen();
 		UIHelper.printHeader("부동산 플랫폼");
 
-		List<ContractRequest> allRequests = contractService.findContractRequestsByPropertyOwnerId(lessor.getId());
-		List<ContractRequest> completedRequests = allRequests.stream()
-			.filter(request -> request.getStatus() == RequestStatus.COMPLETED)
+		// 요청, 매물, 임차인 정보를 한 번의 쿼리로 가져온다.
+		List<ContractRequestView> completedRequests = contractService.findContractRequestViewsByPropertyOwnerId(
+				lessor.getId())
+			.stream()
+			.filter(view -> view.getRequest().getStatus() == RequestStatus.COMPLETED)
 			.toList();
 
 		if (completedRequests.isEmpty()) {
@@ -1196,8 +1211,7 @@ public class LessorView {
 		content.append("완료된 계약 목록 (" + completedRequests.size() + "개)\n\n");
 
 		for (int i = 0; i < completedRequests.size(); i++) {
-			ContractRequest request = completedRequests.get(i);
-			Property property = propertyService.findPropertyById(request.getPropertyId());
+			Property property = completedRequests.get(i).getProperty();
 
 			content.append(String.format("%d. %s %s %s > 🎉 계약 완료\n",
 				(i + 1),
@@ -1234,11 +1248,12 @@ public class LessorView {
 	}
 
 	// 완료된 계약 상세보기
-	private void showCompletedContractDetail(ContractRequest request) {
+	private void showCompletedContractDetail(ContractRequestView view) {
 		UIHelper.clearScreen();
 		UIHelper.printHeader("부동산 플랫폼");
 
-		Property property = propertyService.findPropertyById(request.getPropertyId());
+		ContractRequest request = view.getRequest();
+		Property property = view.getProperty();
 
 		StringBuilder content = new StringBuilder();
 		content.append("=== 완료된 계약 상세 정보 ===\n\n");
@@ -1253,15 +1268,12 @@ public class LessorView {
 		content.append("💵 가격: " + UIHelper.formatPriceForDisplay(property.getPrice(), property.getDealType()) + "\n");
 		content.append("📊 매물 상태: " + UIHelper.getPropertyStatusDisplayName(property.getStatus()) + "\n");
 
-		// 임차인 정보 가져오기
-		Optional<User> requesterOptional = userRepository.findById(request.getRequesterId());
-		if (requesterOptional.isPresent()) {
-			User requester = requesterOptional.get();
-			content.append("\n=== 임차인 정보 ===\n");
-			content.append("📧 이메일: " + requester.getEmail() + "\n");
-			content.append("📞 전화번호: " + requester.getPhoneNumber() + "\n");
-			content.append("📍 주소: " + requester.getAddress() + "\n");
-		}
+		// 임차인 정보는 목록 조회 시 함께 가져왔다.
+		User requester = view.getCounterparty();
+		content.append("\n=== 임차인 정보 ===\n");
+		content.append("📧 이메일: " + requester.getEmail() + "\n");
+		content.append("📞 전화번호: " + requester.getPhoneNumber() + "\n");
+		content.append("📍 주소: " + requester.getAddress() + "\n");
 
 		content.append("\n1: 완료된 계약 목록으로 돌아가기\n");
 		content.append("0: 메인 메뉴로 돌아가기");
@@ -3,8 +3,12 @@ package view;
 import java.util.Optional;
 import java.util.Scanner;
 
+import config.DBConnectionManager;
+import config.QueryTracer;
 import domain.User;
 import domain.enums.Role;
+import metrics.MethodMetrics;
+import repository.PropertyFilterSql;
 import repository.UserRepository;
 import service.IAuthService;
 import service.IContractRequestService;
@@ -13,7 +17,12 @@ import service.IPropertyService;
 import view.ui.UIHelper;
 
 public class MainView {
+	private static final String METRICS_COMMAND = "/metrics";
+	private static final int METRICS_QUERY_LIMIT = 20;
+
 	private final Scanner scanner;
+	// 현재 터미널에서 실행한 단일 사용자 모드인지 (원격 세션에는 내부 통계를 보여주지 않는다)
+	private final boolean localConsole;
 	private final IAuthService authService;
 	private final IPropertyService propertyService;
 	private final IContractRequestService requestService;
@@ -22,7 +31,18 @@ public class MainView {
 
 	public MainView(IAuthService authService, IPropertyService propertyService, IContractRequestService requestService,
 		IContractService contractService, UserRepository userRepository) {
-		this.scanner = new Scanner(System.in);
+		this(new Scanner(System.in), true, authService, propertyService, requestService, contractService,
+			userRepository);
+	}
+
+	/**
+	 * 표준 입력 대신 네트워크 세션 등 다른 입력으로 화면을 진행할 때 사용
+	 * @param localConsole false면 /metrics 명령을 허용하지 않는다. (원격 세션)
+	 */
+	public MainView(Scanner scanner, boolean localConsole, IAuthService authService, IPropertyService propertyService,
+		IContractRequestService requestService, IContractService contractService, UserRepository userRepository) {
+		this.scanner = scanner;
+		this.localConsole = localConsole;
 		this.authService = authService;
 		this.propertyService = propertyService;
 		this.requestService = requestService;
@@ -30,6 +50,7 @@ public class MainView {
 		this.userRepository = userRepository;
 	}
 
+	// 입력이 끝나면(네트워크 세션 연결 종료 등) 반환한다.
 	public void start() {
 		while (true) {
 			try {
@@ -47,6 +68,12 @@ public class MainView {
 				// 이메일을 입력 받는다.
 				String email = scanner.nextLine().trim();
 
+				// 관리자 명령: 메서드별 호출 통계 출력 (단일 사용자 모드에서만, 원격 세션에서는 일반 로그인으로 처리)
+				if (localConsole && email.equals(METRICS_COMMAND)) {
+					showMetrics();
+					continue;
+				}
+
 				// 이메일을 검증한다.
 				Optional<User> userOptional = authService.login(email);
 				if (userOptional.isPresent()) {
@@ -97,6 +124,9 @@ public class MainView {
 				System.out.println("오류 내용: " + e.getMessage());
 				System.out.println();
 				System.out.print("로그인 화면으로 돌아가려면 Enter를 누르세요: ");
+				// 입력이 끊겨 발생한 예외라면 더 기다리지 않고 종료
+				if (!scanner.hasNextLine())
+					return;
 				scanner.nextLine();
 
 				// 다시 로그인 화면으로 돌아가기 위해 continue
@@ -104,4 +134,28 @@ public class MainView {
 			}
 		}
 	}
+
+	private void showMetrics() {
+		UIHelper.clearScreen();
+		UIHelper.printHeader("메서드별 호출 통계");
+		System.out.println("(시간 단위: ms, 애플리케이션 시작 이후 누적)");
+		System.out.println();
+		System.out.print(MethodMetrics.getDefault().report());
+		System.out.println();
+
+		// SQL 형태별 실행 통계 (인덱스가 필요한 조회 조건을 찾는 데 사용)
+		QueryTracer tracer = DBConnectionManager.getQueryTracer();
+		if (tracer != null) {
+			System.out.println("[전체 실행 시간이 긴 SQL " + METRICS_QUERY_LIMIT + "개]");
+			System.out.print(tracer.report(METRICS_QUERY_LIMIT));
+			System.out.println();
+		}
+
+		// 매물 검색 조건 형태별 사용 횟수 (같은 형태는 같은 SQL을 재사용한다)
+		System.out.println("[매물 검색 조건 형태]");
+		System.out.print(PropertyFilterSql.report(METRICS_QUERY_LIMIT));
+		System.out.println();
+		System.out.print("로그인 화면으로 돌아가려면 Enter를 누르세요: ");
+		scanner.nextLine();
+	}
 }
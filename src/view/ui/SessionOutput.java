@@ -0,0 +1,209 @@
+package view.ui;
+
+import java.io.PrintStream;
+import java.util.Locale;
+
+/**
+ * 화면 출력을 현재 스레드의 세션으로 보내는 System.out 대체 스트림
+ * - 뷰는 System.out에 출력하므로, 서버 모드에서는 install()로 System.out을 이 스트림으로 바꾸고
+ *   세션 스레드마다 bind()로 소켓 출력 스트림을 연결한다.
+ * - 연결된 세션이 없는 스레드(메인 스레드 등)의 출력은 원래 System.out으로 간다.
+ * - 세션마다 PrintStream이 따로 있으므로 느린 클라이언트가 다른 세션의 출력을 막지 않는다.
+ */
+public class SessionOutput extends PrintStream {
+	private static final ThreadLocal<PrintStream> CURRENT = new ThreadLocal<>();
+
+	private final PrintStream fallback;
+
+	private SessionOutput(PrintStream fallback) {
+		super(fallback, true);
+		this.fallback = fallback;
+	}
+
+	// System.out을 세션별로 나누어 출력하는 스트림으로 교체 (여러 번 호출해도 한 번만 적용)
+	public static synchronized void install() {
+		if (!(System.out instanceof SessionOutput))
+			System.setOut(new SessionOutput(System.out));
+	}
+
+	// 현재 스레드의 출력을 세션 스트림으로 보낸다.
+	public static void bind(PrintStream out) {
+		CURRENT.set(out);
+	}
+
+	public static void unbind() {
+		CURRENT.remove();
+	}
+
+	// 현재 스레드가 네트워크 세션을 처리 중인지 확인
+	public static boolean isBound() {
+		return CURRENT.get() != null;
+	}
+
+	private PrintStream current() {
+		PrintStream out = CURRENT.get();
+		return out != null ? out : fallback;
+	}
+
+	@Override
+	public void write(int b) {
+		current().write(b);
+	}
+
+	@Override
+	public void write(byte[] buf, int off, int len) {
+		current().write(buf, off, len);
+	}
+
+	@Override
+	public void flush() {
+		current().flush();
+	}
+
+	@Override
+	public void close() {
+		// 공용 System.out은 닫지 않는다. (세션 스트림은 세션이 끝날 때 직접 닫는다)
+	}
+
+	@Override
+	public boolean checkError() {
+		return current().checkError();
+	}
+
+	@Override
+	public void print(boolean b) {
+		current().print(b);
+	}
+
+	@Override
+	public void print(char c) {
+		current().print(c);
+	}
+
+	@Override
+	public void print(int i) {
+		current().print(i);
+	}
+
+	@Override
+	public void print(long l) {
+		current().print(l);
+	}
+
+	@Override
+	public void print(float f) {
+		current().print(f);
+	}
+
+	@Override
+	public void print(double d) {
+		current().print(d);
+	}
+
+	@Override
+	public void print(char[] s) {
+		current().print(s);
+	}
+
+	@Override
+	public void print(String s) {
+		current().print(s);
+	}
+
+	@Override
+	public void print(Object obj) {
+		current().print(obj);
+	}
+
+	@Override
+	public void println() {
+		current().println();
+	}
+
+	@Override
+	public void println(boolean x) {
+		current().println(x);
+	}
+
+	@Override
+	public void println(char x) {
+		current().println(x);
+	}
+
+	@Override
+	public void println(int x) {
+		current().println(x);
+	}
+
+	@Override
+	public void println(long x) {
+		current().println(x);
+	}
+
+	@Override
+	public void println(float x) {
+		current().println(x);
+	}
+
+	@Override
+	public void println(double x) {
+		current().println(x);
+	}
+
+	@Override
+	public void println(char[] x) {
+		current().println(x);
+	}
+
+	@Override
+	public void println(String x) {
+		current().println(x);
+	}
+
+	@Override
+	public void println(Object x) {
+		current().println(x);
+	}
+
+	@Override
+	public PrintStream printf(String format, Object... args) {
+		current().printf(format, args);
+		return this;
+	}
+
+	@Override
+	public PrintStream printf(Locale l, String format, Object... args) {
+		current().printf(l, format, args);
+		return this;
+	}
+
+	@Override
+	public PrintStream format(String format, Object... args) {
+		current().format(format, args);
+		return this;
+	}
+
+	@Override
+	public PrintStream format(Locale l, String format, Object... args) {
+		current().format(l, format, args);
+		return this;
+	}
+
+	@Override
+	public PrintStream append(CharSequence csq) {
+		current().append(csq);
+		return this;
+	}
+
+	@Override
+	public PrintStream append(CharSequence csq, int start, int end) {
+		current().append(csq, start, end);
+		return this;
+	}
+
+	@Override
+	public PrintStream append(char c) {
+		current().append(c);
+		return this;
+	}
+}
@@ -15,7 +15,8 @@ public class UIHelper {
 	public static void clearScreen() {
 		try {
 			// 파워쉘에서도 작동하는 방법
-			if (System.getProperty("os.name").toLowerCase().contains("windows")) {
+			// 네트워크 세션은 서버 콘솔이 아닌 클라이언트 화면을 지워야 하므로 항상 ANSI 코드를 보낸다.
+			if (System.getProperty("os.name").toLowerCase().contains("windows") && !SessionOutput.isBound()) {
 				// 윈도우에서는 ProcessBuilder 사용
 				new ProcessBuilder("cmd", "/c", "cls").inheritIO().start().waitFor();
 			} else {
@@ -40,7 +41,7 @@ public class UIHelper {
 	}
 
 	// 한글/이모지 길이를 정확히 계산하는 메서드
-	private static int getDisplayLength(String str) {
+	static int getDisplayLength(String str) {
 		if (str == null)
 			return 0;
 		int length = 0;
@@ -64,7 +65,7 @@ public class UIHelper {
 	}
 
 	// 긴 텍스트를 박스 너비에 맞게 줄바꿈하는 메서드
-	private static List<String> wrapText(String text, int maxWidth) {
+	static List<String> wrapText(String text, int maxWidth) {
 		List<String> lines = new ArrayList<>();
 		if (text == null || text.isEmpty()) {
 			lines.add("");